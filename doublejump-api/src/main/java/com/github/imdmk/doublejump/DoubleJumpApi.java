@@ -1,7 +1,10 @@
 package com.github.imdmk.doublejump;
 
+import com.github.imdmk.doublejump.jump.JumpPlayerBulkService;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpPlayerService;
+import com.github.imdmk.doublejump.jump.JumpPlayerSnapshotService;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
 import com.github.imdmk.doublejump.region.RegionProvider;
 
 import javax.annotation.Nonnull;
@@ -31,4 +34,28 @@ public interface DoubleJumpApi {
      * @return The jump player service
      */
     @Nonnull JumpPlayerService getJumpPlayerService();
+
+    /**
+     * <p>Gets the {@link JumpPlayerBulkService}</p>
+     * A class used to change the double jump mode of many players at once, spread over several ticks.
+     *
+     * @return The jump player bulk service
+     */
+    @Nonnull JumpPlayerBulkService getJumpPlayerBulkService();
+
+    /**
+     * <p>Gets the {@link JumpPlayerSnapshotService}</p>
+     * A class used to read immutable snapshots of the jump players from other threads.
+     *
+     * @return The jump player snapshot service
+     */
+    @Nonnull JumpPlayerSnapshotService getJumpPlayerSnapshotService();
+
+    /**
+     * <p>Gets the {@link JumpRecordPublisher}</p>
+     * A publisher of jump, streak reset, enable and disable records delivered to subscribers on other threads.
+     *
+     * @return The jump record publisher
+     */
+    @Nonnull JumpRecordPublisher getJumpRecordPublisher();
 }
@@ -0,0 +1,32 @@
+package com.github.imdmk.doublejump.jump;
+
+/**
+ * The result of changing the double jump mode of a player in a bulk operation.
+ */
+public enum JumpModeResult {
+
+    /**
+     * Double jump mode has been enabled
+     */
+    ENABLED,
+
+    /**
+     * Double jump mode has been disabled
+     */
+    DISABLED,
+
+    /**
+     * The player already was in the requested mode
+     */
+    UNCHANGED,
+
+    /**
+     * The player cannot use double jump
+     */
+    RESTRICTED,
+
+    /**
+     * The player was offline when the change was applied
+     */
+    OFFLINE
+}
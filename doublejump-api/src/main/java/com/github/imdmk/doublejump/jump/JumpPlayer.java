@@ -20,6 +20,8 @@ public class JumpPlayer {
     private boolean delayNotificationReceived;
     private boolean jumpsNotificationReceived;
 
+    private volatile int modificationCount;
+
     public JumpPlayer() {
         this.endOfDelay = Instant.MIN;
         this.streak = 0;
@@ -61,10 +63,12 @@ public class JumpPlayer {
      */
     public void addDelay(Duration toAdd) {
         this.endOfDelay = Instant.now().plus(toAdd);
+        this.modificationCount++;
     }
 
     public void setEndOfDelay(Instant endOfDelay) {
         this.endOfDelay = endOfDelay;
+        this.modificationCount++;
     }
 
     public int getStreak() {
@@ -77,11 +81,13 @@ public class JumpPlayer {
      * @return The new streak
      */
     public int addStreak(int toAdd) {
+        this.modificationCount++;
         return this.streak += toAdd;
     }
 
     public void setStreak(int streak) {
         this.streak = streak;
+        this.modificationCount++;
     }
 
     /**
@@ -103,16 +109,22 @@ public class JumpPlayer {
      * @return The new jumps
      */
     public int addJumps(int toAdd) {
+        this.modificationCount++;
         return this.jumps += toAdd;
     }
 
     /**
-     * Removes a jumps
+     * Removes a jumps, never below 0, unlimited jumps (-1) stay unlimited
      * @param toRemove jumps to remove
      * @return The new jumps
      */
     public int removeJumps(int toRemove) {
-        return this.jumps -= toRemove;
+        if (this.jumps == -1) {
+            return this.jumps;
+        }
+
+        this.modificationCount++;
+        return this.jumps = Math.max(0, this.jumps - toRemove);
     }
 
     public int getJumps() {
@@ -121,6 +133,7 @@ public class JumpPlayer {
 
     public void setJumps(int jumps) {
         this.jumps = jumps;
+        this.modificationCount++;
     }
 
     public int getJumpsLimit() {
@@ -133,6 +146,7 @@ public class JumpPlayer {
      */
     public void addJumpRegenerationDelay(Duration toAdd) {
         this.endOfJumpsRegenerationDelay = Instant.now().plus(toAdd);
+        this.modificationCount++;
     }
 
     /**
@@ -148,6 +162,7 @@ public class JumpPlayer {
 
     public void setEndOfJumpsRegenerationDelay(Instant endOfJumpsRegenerationDelay) {
         this.endOfJumpsRegenerationDelay = endOfJumpsRegenerationDelay;
+        this.modificationCount++;
     }
 
     public boolean isDelayNotificationReceived() {
@@ -165,4 +180,12 @@ public class JumpPlayer {
     public void setJumpsNotificationReceived(boolean jumpsNotificationReceived) {
         this.jumpsNotificationReceived = jumpsNotificationReceived;
     }
+
+    /**
+     * Gets the number of changes made to the delay, streak and jumps values
+     * @return The modification count, useful to detect that a cached value is stale
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
 }
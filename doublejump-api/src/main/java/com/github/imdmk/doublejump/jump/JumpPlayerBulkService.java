@@ -0,0 +1,158 @@
+package com.github.imdmk.doublejump.jump;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Changes the double jump mode of large sets of players, e.g. a whole arena, spreading the changes over several ticks.
+ * <p>
+ * Players are split into one batch per tick. Each batch is evaluated and applied in a single pass of {@link JumpPlayerService},
+ * so restrictions are checked at the moment the change is applied.
+ * All methods must be called from the main server thread, the returned futures are completed on it.
+ */
+public class JumpPlayerBulkService {
+
+    private final Plugin plugin;
+    private final JumpPlayerService jumpPlayerService;
+    private final IntSupplier defaultSpreadTicks;
+
+    /**
+     * @param plugin             The plugin scheduling the batches
+     * @param jumpPlayerService  The service applying the batches
+     * @param defaultSpreadTicks The supplier of the default number of ticks to spread changes over
+     */
+    public JumpPlayerBulkService(Plugin plugin, JumpPlayerService jumpPlayerService, IntSupplier defaultSpreadTicks) {
+        this.plugin = plugin;
+        this.jumpPlayerService = jumpPlayerService;
+        this.defaultSpreadTicks = defaultSpreadTicks;
+    }
+
+    /**
+     * Enables double jump mode for the players over the default number of ticks.
+     *
+     * @param players The players for whom to enable
+     * @param force   Whether to skip checking if a player can use double jump
+     * @return The future of results for each player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> enable(Collection<? extends Player> players, boolean force) {
+        return this.enable(players, force, this.defaultSpreadTicks.getAsInt());
+    }
+
+    /**
+     * Enables double jump mode for the players.
+     *
+     * @param players     The players for whom to enable
+     * @param force       Whether to skip checking if a player can use double jump
+     * @param spreadTicks The number of ticks to spread changes over, 1 applies all changes now
+     * @return The future of results for each player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> enable(Collection<? extends Player> players, boolean force, int spreadTicks) {
+        return this.apply(players, spreadTicks, (service, batch) -> service.enable(batch, force));
+    }
+
+    /**
+     * Enables double jump mode for online players matching the filter over the default number of ticks.
+     *
+     * @param filter The filter of online players
+     * @param force  Whether to skip checking if a player can use double jump
+     * @return The future of results for each matched player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> enable(Predicate<? super Player> filter, boolean force) {
+        return this.enable(this.filterOnlinePlayers(filter), force);
+    }
+
+    /**
+     * Disables double jump mode for the players over the default number of ticks.
+     *
+     * @param players The players for whom to disable
+     * @return The future of results for each player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> disable(Collection<? extends Player> players) {
+        return this.disable(players, this.defaultSpreadTicks.getAsInt());
+    }
+
+    /**
+     * Disables double jump mode for the players.
+     *
+     * @param players     The players for whom to disable
+     * @param spreadTicks The number of ticks to spread changes over, 1 applies all changes now
+     * @return The future of results for each player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> disable(Collection<? extends Player> players, int spreadTicks) {
+        return this.apply(players, spreadTicks, JumpPlayerService::disable);
+    }
+
+    /**
+     * Disables double jump mode for online players matching the filter over the default number of ticks.
+     *
+     * @param filter The filter of online players
+     * @return The future of results for each matched player
+     */
+    public CompletableFuture<Map<UUID, JumpModeResult>> disable(Predicate<? super Player> filter) {
+        return this.disable(this.filterOnlinePlayers(filter));
+    }
+
+    private CompletableFuture<Map<UUID, JumpModeResult>> apply(Collection<? extends Player> players, int spreadTicks, BiFunction<JumpPlayerService, List<Player>, Map<UUID, JumpModeResult>> operation) {
+        List<List<Player>> batches = this.split(players, Math.max(1, spreadTicks));
+
+        Map<UUID, JumpModeResult> results = new LinkedHashMap<>();
+        CompletableFuture<Map<UUID, JumpModeResult>> future = new CompletableFuture<>();
+
+        this.applyBatch(batches, 0, results, future, operation);
+        return future;
+    }
+
+    private void applyBatch(List<List<Player>> batches, int batchIndex, Map<UUID, JumpModeResult> results, CompletableFuture<Map<UUID, JumpModeResult>> future, BiFunction<JumpPlayerService, List<Player>, Map<UUID, JumpModeResult>> operation) {
+        try {
+            if (batchIndex < batches.size()) {
+                results.putAll(operation.apply(this.jumpPlayerService, batches.get(batchIndex)));
+            }
+        }
+        catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            return;
+        }
+
+        if (batchIndex + 1 >= batches.size()) {
+            future.complete(results);
+            return;
+        }
+
+        this.plugin.getServer().getScheduler().runTaskLater(this.plugin, () -> this.applyBatch(batches, batchIndex + 1, results, future, operation), 1L);
+    }
+
+    private List<List<Player>> split(Collection<? extends Player> players, int batchCount) {
+        List<Player> playerList = new ArrayList<>(players);
+        int batchSize = Math.max(1, (playerList.size() + batchCount - 1) / batchCount);
+
+        List<List<Player>> batches = new ArrayList<>();
+        for (int index = 0; index < playerList.size(); index += batchSize) {
+            batches.add(playerList.subList(index, Math.min(playerList.size(), index + batchSize)));
+        }
+
+        return batches;
+    }
+
+    private List<Player> filterOnlinePlayers(Predicate<? super Player> filter) {
+        List<Player> players = new ArrayList<>();
+
+        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
+            if (filter.test(player)) {
+                players.add(player);
+            }
+        }
+
+        return players;
+    }
+}
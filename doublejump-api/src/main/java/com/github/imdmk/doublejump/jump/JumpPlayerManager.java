@@ -1,8 +1,12 @@
 package com.github.imdmk.doublejump.jump;
 
+import com.github.imdmk.doublejump.jump.stream.JumpRecord;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
 import org.bukkit.entity.Player;
 
+import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +19,19 @@ public class JumpPlayerManager {
 
     private final Map<UUID, JumpPlayer> jumpPlayers = new ConcurrentHashMap<>();
 
+    private final JumpRecordPublisher jumpRecordPublisher;
+
+    public JumpPlayerManager() {
+        this(null);
+    }
+
+    /**
+     * @param jumpRecordPublisher The publisher of enable and disable records, null to publish none
+     */
+    public JumpPlayerManager(JumpRecordPublisher jumpRecordPublisher) {
+        this.jumpRecordPublisher = jumpRecordPublisher;
+    }
+
     /**
      * Adds to the map.
      *
@@ -23,7 +40,12 @@ public class JumpPlayerManager {
      * @return The jump player that has been added
      */
     public JumpPlayer add(UUID uuid, JumpPlayer jumpPlayer) {
-        this.jumpPlayers.put(uuid, jumpPlayer);
+        JumpPlayer previousJumpPlayer = this.jumpPlayers.put(uuid, jumpPlayer);
+
+        if (previousJumpPlayer == null && this.hasRecordSubscribers()) {
+            this.jumpRecordPublisher.publish(new JumpRecord.Enable(uuid, System.currentTimeMillis()));
+        }
+
         return jumpPlayer;
     }
 
@@ -34,7 +56,13 @@ public class JumpPlayerManager {
      * @return The jump player associated with uuid or null
      */
     public JumpPlayer remove(UUID uuid) {
-        return this.jumpPlayers.remove(uuid);
+        JumpPlayer jumpPlayer = this.jumpPlayers.remove(uuid);
+
+        if (jumpPlayer != null && this.hasRecordSubscribers()) {
+            this.jumpRecordPublisher.publish(new JumpRecord.Disable(uuid, System.currentTimeMillis()));
+        }
+
+        return jumpPlayer;
     }
 
     /**
@@ -64,4 +92,34 @@ public class JumpPlayerManager {
     public Map<UUID, JumpPlayer> getJumpPlayers() {
         return Collections.unmodifiableMap(this.jumpPlayers);
     }
+
+    /**
+     * Takes a snapshot of the jump player, must be called from the main server thread.
+     * Other threads should use {@link JumpPlayerSnapshotService}.
+     *
+     * @param uuid The uuid of player
+     * @return Optional {@link JumpPlayerSnapshot}
+     */
+    public Optional<JumpPlayerSnapshot> snapshot(UUID uuid) {
+        return this.getJumpPlayer(uuid).map(jumpPlayer -> JumpPlayerSnapshot.of(uuid, jumpPlayer, Instant.now()));
+    }
+
+    /**
+     * Takes a snapshot of all jump players, must be called from the main server thread.
+     * Other threads should use {@link JumpPlayerSnapshotService}.
+     *
+     * @return The snapshot of all jump players
+     */
+    public JumpPlayersSnapshot snapshot() {
+        Instant now = Instant.now();
+        Map<UUID, JumpPlayerSnapshot> players = new HashMap<>(this.jumpPlayers.size());
+
+        this.jumpPlayers.forEach((uuid, jumpPlayer) -> players.put(uuid, JumpPlayerSnapshot.of(uuid, jumpPlayer, now)));
+
+        return new JumpPlayersSnapshot(now, players);
+    }
+
+    private boolean hasRecordSubscribers() {
+        return this.jumpRecordPublisher != null && this.jumpRecordPublisher.hasSubscribers();
+    }
 }
@@ -6,32 +6,47 @@ import com.github.imdmk.doublejump.util.GameModeUtil;
 import org.bukkit.GameMode;
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 public class JumpPlayerService {
 
     private final RegionProvider regionProvider;
     private final JumpPlayerManager playerManager;
 
-    private final JumpRestriction worldRestriction;
-    private final JumpRestriction gameModeRestriction;
-    private final String doubleJumpUsePermission;
+    private final Supplier<JumpPlayerSettings> settings;
+    private final ToIntFunction<Player> jumpsLimitOverride;
 
-    private final boolean jumpsLimitEnabled;
-    private final int jumpsLimit;
-    private final Map<String, Integer> jumpsLimitByPermissions;
+    /**
+     * @param settings           The supplier of current settings, read on every call so that reloaded settings take effect immediately
+     * @param jumpsLimitOverride The jumps limit of a player overriding the limits by permissions, 0 or less to not override it
+     */
+    public JumpPlayerService(RegionProvider regionProvider, JumpPlayerManager playerManager, Supplier<JumpPlayerSettings> settings, ToIntFunction<Player> jumpsLimitOverride) {
+        this.regionProvider = regionProvider;
+        this.playerManager = playerManager;
+        this.settings = settings;
+        this.jumpsLimitOverride = jumpsLimitOverride;
+    }
+
+    /**
+     * @param settings The supplier of current settings, read on every call so that reloaded settings take effect immediately
+     */
+    public JumpPlayerService(RegionProvider regionProvider, JumpPlayerManager playerManager, Supplier<JumpPlayerSettings> settings) {
+        this(regionProvider, playerManager, settings, player -> 0);
+    }
 
     public JumpPlayerService(RegionProvider regionProvider, JumpPlayerManager playerManager, JumpRestriction worldRestriction, JumpRestriction gameModeRestriction, String doubleJumpUsePermission, boolean jumpsLimitEnabled, int jumpsLimit, Map<String, Integer> jumpsLimitByPermissions) {
+        JumpPlayerSettings settings = new JumpPlayerSettings(worldRestriction, gameModeRestriction, doubleJumpUsePermission, jumpsLimitEnabled, jumpsLimit, jumpsLimitByPermissions);
+
         this.regionProvider = regionProvider;
         this.playerManager = playerManager;
-        this.worldRestriction = worldRestriction;
-        this.gameModeRestriction = gameModeRestriction;
-        this.doubleJumpUsePermission = doubleJumpUsePermission;
-        this.jumpsLimitEnabled = jumpsLimitEnabled;
-        this.jumpsLimit = jumpsLimit;
-        this.jumpsLimitByPermissions = jumpsLimitByPermissions;
+        this.settings = () -> settings;
+        this.jumpsLimitOverride = player -> 0;
     }
 
     /**
@@ -90,6 +105,86 @@ public class JumpPlayerService {
         }
     }
 
+    /**
+     * Enables double jump mode for many players at once.
+     * The settings are read once for all players and abilities are only updated when they differ, so no redundant packets are sent.
+     * Players who already have double jump mode enabled keep their jump player.
+     *
+     * @param players The players for whom to enable
+     * @param force   Whether to skip checking if a player can use double jump
+     * @return The result for each player, in the order of the given players
+     */
+    public Map<UUID, JumpModeResult> enable(Collection<? extends Player> players, boolean force) {
+        JumpPlayerSettings settings = this.settings.get();
+        Map<UUID, JumpModeResult> results = new LinkedHashMap<>();
+
+        for (Player player : players) {
+            UUID playerUniqueId = player.getUniqueId();
+
+            if (!player.isOnline()) {
+                results.put(playerUniqueId, JumpModeResult.OFFLINE);
+                continue;
+            }
+
+            if (this.playerManager.isDoubleJumpMode(player)) {
+                results.put(playerUniqueId, JumpModeResult.UNCHANGED);
+                continue;
+            }
+
+            if (!force && !this.canUseDoubleJump(player, settings)) {
+                results.put(playerUniqueId, JumpModeResult.RESTRICTED);
+                continue;
+            }
+
+            this.create(player, settings);
+
+            if (player.isFlying()) {
+                player.setFlying(false);
+            }
+
+            if (!player.getAllowFlight()) {
+                player.setAllowFlight(true);
+            }
+
+            results.put(playerUniqueId, JumpModeResult.ENABLED);
+        }
+
+        return results;
+    }
+
+    /**
+     * Disables double jump mode for many players at once.
+     * Flight is only denied when it is allowed and the game mode cannot fly, so no redundant packets are sent.
+     *
+     * @param players The players for whom to disable
+     * @return The result for each player, in the order of the given players
+     */
+    public Map<UUID, JumpModeResult> disable(Collection<? extends Player> players) {
+        Map<UUID, JumpModeResult> results = new LinkedHashMap<>();
+
+        for (Player player : players) {
+            UUID playerUniqueId = player.getUniqueId();
+
+            if (this.playerManager.remove(playerUniqueId) == null) {
+                results.put(playerUniqueId, JumpModeResult.UNCHANGED);
+                continue;
+            }
+
+            if (!player.isOnline()) {
+                results.put(playerUniqueId, JumpModeResult.OFFLINE);
+                continue;
+            }
+
+            if (!GameModeUtil.canFly(player.getGameMode()) && player.getAllowFlight()) {
+                player.setAllowFlight(false);
+            }
+
+            results.put(playerUniqueId, JumpModeResult.DISABLED);
+        }
+
+        return results;
+    }
+
     /**
      * Creates a jump player with a preset number of player jumps
      *
@@ -97,10 +192,14 @@ public class JumpPlayerService {
      * @return The jump player that has been created
      */
     public JumpPlayer create(Player player) {
+        return this.create(player, this.settings.get());
+    }
+
+    private JumpPlayer create(Player player, JumpPlayerSettings settings) {
         AtomicReference<JumpPlayer> jumpPlayer = new AtomicReference<>(new JumpPlayer());
 
-        if (this.jumpsLimitEnabled) {
-            int availableJumps = this.getJumpsByPermission(player);
+        if (settings.jumpsLimitEnabled()) {
+            int availableJumps = this.getJumpsByPermission(player, settings);
 
             jumpPlayer.set(new JumpPlayer(availableJumps, availableJumps));
         }
@@ -117,25 +216,30 @@ public class JumpPlayerService {
      * @return Whether the player can use double jump.
      */
     public boolean canUseDoubleJump(Player player) {
+        return this.canUseDoubleJump(player, this.settings.get());
+    }
+
+    private boolean canUseDoubleJump(Player player, JumpPlayerSettings settings) {
         if (!this.regionProvider.isInAllowedRegion(player)) {
             return false;
         }
 
         GameMode playerGameMode = player.getGameMode();
-        if (!this.gameModeRestriction.isAllowed(playerGameMode.name())) {
+        if (!settings.gameModeRestriction().isAllowed(playerGameMode.name())) {
             return false;
         }
 
         String playerWorldName = player.getWorld().getName();
-        if (!this.worldRestriction.isAllowed(playerWorldName)) {
+        if (!settings.worldRestriction().isAllowed(playerWorldName)) {
             return false;
         }
 
-        if (this.doubleJumpUsePermission == null || this.doubleJumpUsePermission.isEmpty()) {
+        String doubleJumpUsePermission = settings.doubleJumpUsePermission();
+        if (doubleJumpUsePermission == null || doubleJumpUsePermission.isEmpty()) {
             return true;
         }
 
-        return player.hasPermission(this.doubleJumpUsePermission);
+        return player.hasPermission(doubleJumpUsePermission);
     }
 
     /**
@@ -155,7 +259,16 @@ public class JumpPlayerService {
      * @return The value of a player's maximum double jumps.
      */
     public int getJumpsByPermission(Player player) {
-        for (Map.Entry<String, Integer> entry : this.jumpsLimitByPermissions.entrySet()) {
+        return this.getJumpsByPermission(player, this.settings.get());
+    }
+
+    private int getJumpsByPermission(Player player, JumpPlayerSettings settings) {
+        int jumpsLimitOverride = this.jumpsLimitOverride.applyAsInt(player);
+        if (jumpsLimitOverride > 0) {
+            return jumpsLimitOverride;
+        }
+
+        for (Map.Entry<String, Integer> entry : settings.jumpsLimitByPermissions().entrySet()) {
             String permission = entry.getKey();
             int jumpLimit = entry.getValue();
 
@@ -164,6 +277,6 @@ public class JumpPlayerService {
             }
         }
 
-        return this.jumpsLimit;
+        return settings.jumpsLimit();
     }
 }
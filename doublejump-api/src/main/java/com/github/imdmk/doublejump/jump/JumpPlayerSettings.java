@@ -0,0 +1,27 @@
+package com.github.imdmk.doublejump.jump;
+
+import com.github.imdmk.doublejump.restriction.JumpRestriction;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable settings used by {@link JumpPlayerService} to decide who can double jump and how many jumps they get.
+ *
+ * @param worldRestriction The restriction of worlds
+ * @param gameModeRestriction The restriction of game modes
+ * @param doubleJumpUsePermission The permission required to double jump, empty if none
+ * @param jumpsLimitEnabled Whether the jumps limit is enabled
+ * @param jumpsLimit The default jumps limit
+ * @param jumpsLimitByPermissions The jumps limits by permissions, checked in order
+ */
+public record JumpPlayerSettings(JumpRestriction worldRestriction, JumpRestriction gameModeRestriction, String doubleJumpUsePermission, boolean jumpsLimitEnabled, int jumpsLimit, Map<String, Integer> jumpsLimitByPermissions) {
+
+    public JumpPlayerSettings {
+        worldRestriction = new JumpRestriction(worldRestriction.type(), List.copyOf(worldRestriction.list()));
+        gameModeRestriction = new JumpRestriction(gameModeRestriction.type(), List.copyOf(gameModeRestriction.list()));
+        jumpsLimitByPermissions = Collections.unmodifiableMap(new LinkedHashMap<>(jumpsLimitByPermissions));
+    }
+}
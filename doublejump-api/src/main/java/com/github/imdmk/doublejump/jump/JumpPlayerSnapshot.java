@@ -0,0 +1,45 @@
+package com.github.imdmk.doublejump.jump;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An immutable copy of the values of a {@link JumpPlayer}, safe to read from any thread.
+ *
+ * @param uuid                      The uuid of the player
+ * @param streak                    The jump streak
+ * @param jumps                     The jumps left, -1 if unlimited
+ * @param jumpsLimit                The jumps limit, -1 if unlimited
+ * @param remainingDelay            The delay left until the next double jump at the time of the snapshot, zero if none
+ * @param remainingJumpRegeneration The delay left until the jumps regenerate at the time of the snapshot, zero if none
+ */
+public record JumpPlayerSnapshot(UUID uuid, int streak, int jumps, int jumpsLimit, Duration remainingDelay, Duration remainingJumpRegeneration) {
+
+    /**
+     * Copies the values of the jump player, must be called from the main server thread.
+     *
+     * @param uuid       The uuid of the player
+     * @param jumpPlayer The jump player to copy
+     * @param now        The time of the snapshot
+     * @return The snapshot
+     */
+    public static JumpPlayerSnapshot of(UUID uuid, JumpPlayer jumpPlayer, Instant now) {
+        return new JumpPlayerSnapshot(
+                uuid,
+                jumpPlayer.getStreak(),
+                jumpPlayer.getJumps(),
+                jumpPlayer.getJumpsLimit(),
+                remaining(now, jumpPlayer.getEndOfDelay()),
+                remaining(now, jumpPlayer.getEndOfJumpsRegenerationDelay())
+        );
+    }
+
+    public boolean isDelay() {
+        return !this.remainingDelay.isZero();
+    }
+
+    private static Duration remaining(Instant now, Instant end) {
+        return end.isAfter(now) ? Duration.between(now, end) : Duration.ZERO;
+    }
+}
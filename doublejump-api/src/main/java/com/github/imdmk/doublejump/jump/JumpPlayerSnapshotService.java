@@ -0,0 +1,59 @@
+package com.github.imdmk.doublejump.jump;
+
+import org.bukkit.Server;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shares snapshots of the jump players with readers on other threads, e.g. analytics or web dashboards.
+ * <p>
+ * A snapshot of all jump players is taken on the main server thread once per configured interval,
+ * every reader gets the same instance until the next one is taken.
+ */
+public class JumpPlayerSnapshotService implements Runnable {
+
+    private final Server server;
+    private final JumpPlayerManager jumpPlayerManager;
+
+    private volatile JumpPlayersSnapshot snapshot = JumpPlayersSnapshot.EMPTY;
+
+    /**
+     * @param server            The server to check the current thread with
+     * @param jumpPlayerManager The manager to take the snapshots of
+     */
+    public JumpPlayerSnapshotService(Server server, JumpPlayerManager jumpPlayerManager) {
+        this.server = server;
+        this.jumpPlayerManager = jumpPlayerManager;
+    }
+
+    /**
+     * Takes a new snapshot of all jump players, called periodically on the main server thread.
+     */
+    @Override
+    public void run() {
+        this.snapshot = this.jumpPlayerManager.snapshot();
+    }
+
+    /**
+     * @return The latest snapshot of all jump players, at most one interval old
+     */
+    public JumpPlayersSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Gets the snapshot of a single jump player. On the main server thread it is taken right away,
+     * on other threads it comes from the latest shared snapshot.
+     *
+     * @param uuid The uuid of player
+     * @return Optional {@link JumpPlayerSnapshot}
+     */
+    public Optional<JumpPlayerSnapshot> getSnapshot(UUID uuid) {
+        if (this.server.isPrimaryThread()) {
+            return this.jumpPlayerManager.snapshot(uuid);
+        }
+
+        return this.snapshot.getPlayer(uuid);
+    }
+}
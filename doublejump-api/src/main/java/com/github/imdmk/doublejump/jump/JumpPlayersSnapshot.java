@@ -0,0 +1,29 @@
+package com.github.imdmk.doublejump.jump;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * An immutable copy of all players who have double jump mode enabled, taken at once on the main server thread.
+ *
+ * @param capturedAt The time of the snapshot
+ * @param players    The snapshots of the players by their uuid
+ */
+public record JumpPlayersSnapshot(Instant capturedAt, Map<UUID, JumpPlayerSnapshot> players) {
+
+    public static final JumpPlayersSnapshot EMPTY = new JumpPlayersSnapshot(Instant.EPOCH, Map.of());
+
+    public JumpPlayersSnapshot {
+        players = Map.copyOf(players);
+    }
+
+    /**
+     * @param uuid The uuid of player
+     * @return Optional {@link JumpPlayerSnapshot}, empty if the player did not have double jump mode enabled at the time of the snapshot
+     */
+    public Optional<JumpPlayerSnapshot> getPlayer(UUID uuid) {
+        return Optional.ofNullable(this.players.get(uuid));
+    }
+}
@@ -5,21 +5,55 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
+import org.bukkit.util.Vector;
 
 import javax.annotation.Nonnull;
+import java.time.Duration;
 
+/**
+ * Called before a player double jumps, the jump is applied with the values of the event once all listeners have run.
+ * <p>
+ * The event is only called while it has listeners and its instance is reused by the plugin,
+ * listeners must not keep a reference to it after returning.
+ */
 public class DoubleJumpEvent extends Event implements Cancellable {
 
     private static final HandlerList handlerList = new HandlerList();
 
-    private final Player player;
-    private final JumpPlayer jumpPlayer;
+    private static final double DEFAULT_JUMP_MULTIPLE = 0.3;
+    private static final double DEFAULT_JUMP_UP = 0.6;
+    private static final int DEFAULT_JUMP_COST = 1;
+
+    private Player player;
+    private JumpPlayer jumpPlayer;
+    private Vector velocity;
+    private int jumpCost;
+    private Duration cooldown;
 
     private boolean canceled;
 
+    /**
+     * Creates the event with fixed legacy values: a velocity of 0.3 in the direction the player looks with 0.6 upwards, a cost of one jump and no cooldown.
+     * These values are not read from the configured jump settings or jump profiles.
+     *
+     * @param player the jumping player
+     * @param jumpPlayer the jump player of the player
+     * @deprecated the event carries the values of the jump, use {@link #DoubleJumpEvent(Player, JumpPlayer, Vector, int, Duration)}
+     */
+    @Deprecated
     public DoubleJumpEvent(Player player, JumpPlayer jumpPlayer) {
-        this.player = player;
-        this.jumpPlayer = jumpPlayer;
+        this(player, jumpPlayer, getDefaultVelocity(player), DEFAULT_JUMP_COST, Duration.ZERO);
+    }
+
+    /**
+     * @param player the jumping player
+     * @param jumpPlayer the jump player of the player
+     * @param velocity the velocity the player will be launched with
+     * @param jumpCost the number of jumps taken from the player
+     * @param cooldown the delay until the player can double jump again
+     */
+    public DoubleJumpEvent(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        this.reset(player, jumpPlayer, velocity, jumpCost, cooldown);
     }
 
     @Nonnull
@@ -32,6 +66,12 @@ public class DoubleJumpEvent extends Event implements Cancellable {
         return handlerList;
     }
 
+    private static Vector getDefaultVelocity(Player player) {
+        return player.getLocation().getDirection()
+                .multiply(DEFAULT_JUMP_MULTIPLE)
+                .setY(DEFAULT_JUMP_UP);
+    }
+
     public Player getPlayer() {
         return this.player;
     }
@@ -40,6 +80,39 @@ public class DoubleJumpEvent extends Event implements Cancellable {
         return this.jumpPlayer;
     }
 
+    /**
+     * @return The velocity the player will be launched with, changes made to the returned vector are applied
+     */
+    public Vector getVelocity() {
+        return this.velocity;
+    }
+
+    public void setVelocity(@Nonnull Vector velocity) {
+        this.velocity = velocity;
+    }
+
+    /**
+     * @return The number of jumps taken from the player while the jumps limit is enabled, 0 if the jump is free
+     */
+    public int getJumpCost() {
+        return this.jumpCost;
+    }
+
+    public void setJumpCost(int jumpCost) {
+        this.jumpCost = Math.max(0, jumpCost);
+    }
+
+    /**
+     * @return The delay until the player can double jump again, zero for no delay
+     */
+    public Duration getCooldown() {
+        return this.cooldown;
+    }
+
+    public void setCooldown(@Nonnull Duration cooldown) {
+        this.cooldown = cooldown.isNegative() ? Duration.ZERO : cooldown;
+    }
+
     @Override
     public boolean isCancelled() {
         return this.canceled;
@@ -49,4 +122,20 @@ public class DoubleJumpEvent extends Event implements Cancellable {
     public void setCancelled(boolean cancel) {
         this.canceled = cancel;
     }
+
+    void reset(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        this.player = player;
+        this.jumpPlayer = jumpPlayer;
+        this.setVelocity(velocity);
+        this.setJumpCost(jumpCost);
+        this.setCooldown(cooldown);
+        this.canceled = false;
+    }
+
+    void clear() {
+        this.player = null;
+        this.jumpPlayer = null;
+        this.velocity = null;
+        this.cooldown = null;
+    }
 }
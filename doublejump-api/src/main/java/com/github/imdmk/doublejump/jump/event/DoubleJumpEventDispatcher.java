@@ -0,0 +1,112 @@
+package com.github.imdmk.doublejump.jump.event;
+
+import com.github.imdmk.doublejump.jump.JumpPlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.util.Vector;
+
+import java.time.Duration;
+
+/**
+ * Calls {@link DoubleJumpEvent} and {@link DoubleJumpPerformedEvent} reusing a single instance of each.
+ * <p>
+ * Neither event is constructed or called while it has no listeners.
+ * An event called again by one of its own listeners gets a new instance, so the outer call is never overwritten.
+ * Must be used from the main server thread only.
+ */
+public class DoubleJumpEventDispatcher {
+
+    private final PluginManager pluginManager;
+
+    private DoubleJumpEvent preJumpEvent;
+    private DoubleJumpPerformedEvent postJumpEvent;
+
+    private boolean preJumpEventInUse;
+    private boolean postJumpEventInUse;
+
+    public DoubleJumpEventDispatcher(PluginManager pluginManager) {
+        this.pluginManager = pluginManager;
+    }
+
+    public boolean hasPreJumpListeners() {
+        return DoubleJumpEvent.getHandlerList().getRegisteredListeners().length > 0;
+    }
+
+    public boolean hasPostJumpListeners() {
+        return DoubleJumpPerformedEvent.getHandlerList().getRegisteredListeners().length > 0;
+    }
+
+    /**
+     * Calls the pre-jump event. The returned event is reused by the next call,
+     * its values have to be read right away and {@link #releasePreJump(DoubleJumpEvent)} called afterwards.
+     *
+     * @return The called event
+     */
+    public DoubleJumpEvent callPreJump(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        if (this.preJumpEventInUse) {
+            DoubleJumpEvent event = new DoubleJumpEvent(player, jumpPlayer, velocity, jumpCost, cooldown);
+            this.pluginManager.callEvent(event);
+            return event;
+        }
+
+        DoubleJumpEvent event = this.preJumpEvent;
+        if (event == null) {
+            event = this.preJumpEvent = new DoubleJumpEvent(player, jumpPlayer, velocity, jumpCost, cooldown);
+        }
+        else {
+            event.reset(player, jumpPlayer, velocity, jumpCost, cooldown);
+        }
+
+        this.preJumpEventInUse = true;
+        try {
+            this.pluginManager.callEvent(event);
+        }
+        finally {
+            this.preJumpEventInUse = false;
+        }
+
+        return event;
+    }
+
+    /**
+     * Drops the references held by the event returned from {@link #callPreJump}, if it is the reused one.
+     *
+     * @param event the event returned from {@link #callPreJump}
+     */
+    public void releasePreJump(DoubleJumpEvent event) {
+        if (event == this.preJumpEvent && !this.preJumpEventInUse) {
+            event.clear();
+        }
+    }
+
+    /**
+     * Calls the post-jump event if it has listeners.
+     */
+    public void callPostJump(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        if (!this.hasPostJumpListeners()) {
+            return;
+        }
+
+        if (this.postJumpEventInUse) {
+            this.pluginManager.callEvent(new DoubleJumpPerformedEvent(player, jumpPlayer, velocity, jumpCost, cooldown));
+            return;
+        }
+
+        DoubleJumpPerformedEvent event = this.postJumpEvent;
+        if (event == null) {
+            event = this.postJumpEvent = new DoubleJumpPerformedEvent(player, jumpPlayer, velocity, jumpCost, cooldown);
+        }
+        else {
+            event.reset(player, jumpPlayer, velocity, jumpCost, cooldown);
+        }
+
+        this.postJumpEventInUse = true;
+        try {
+            this.pluginManager.callEvent(event);
+        }
+        finally {
+            this.postJumpEventInUse = false;
+            event.clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.imdmk.doublejump.jump.event;
+
+import com.github.imdmk.doublejump.jump.JumpPlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.util.Vector;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+
+/**
+ * Called after a player has double jumped, with the values the jump was applied with.
+ * <p>
+ * The event is only called while it has listeners and its instance is reused by the plugin,
+ * listeners must not keep a reference to it or modify the velocity.
+ */
+public class DoubleJumpPerformedEvent extends Event {
+
+    private static final HandlerList handlerList = new HandlerList();
+
+    private Player player;
+    private JumpPlayer jumpPlayer;
+    private Vector velocity;
+    private int jumpCost;
+    private Duration cooldown;
+
+    public DoubleJumpPerformedEvent(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        this.reset(player, jumpPlayer, velocity, jumpCost, cooldown);
+    }
+
+    @Nonnull
+    @Override
+    public HandlerList getHandlers() {
+        return handlerList;
+    }
+
+    public static HandlerList getHandlerList() { //Required for work
+        return handlerList;
+    }
+
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    public JumpPlayer getJumpPlayer() {
+        return this.jumpPlayer;
+    }
+
+    public Vector getVelocity() {
+        return this.velocity;
+    }
+
+    public int getJumpCost() {
+        return this.jumpCost;
+    }
+
+    public Duration getCooldown() {
+        return this.cooldown;
+    }
+
+    void reset(Player player, JumpPlayer jumpPlayer, Vector velocity, int jumpCost, Duration cooldown) {
+        this.player = player;
+        this.jumpPlayer = jumpPlayer;
+        this.velocity = velocity;
+        this.jumpCost = jumpCost;
+        this.cooldown = cooldown;
+    }
+
+    void clear() {
+        this.player = null;
+        this.jumpPlayer = null;
+        this.velocity = null;
+        this.cooldown = null;
+    }
+}
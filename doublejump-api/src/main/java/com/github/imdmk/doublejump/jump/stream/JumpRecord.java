@@ -0,0 +1,64 @@
+package com.github.imdmk.doublejump.jump.stream;
+
+import com.github.imdmk.doublejump.jump.event.reset.JumpStreakResetReason;
+
+import java.util.UUID;
+
+/**
+ * A compact, immutable record of something a jump player did, emitted by {@link JumpRecordPublisher}.
+ */
+public sealed interface JumpRecord {
+
+    /**
+     * @return The uuid of the player
+     */
+    UUID uuid();
+
+    /**
+     * @return The time the record was created, in milliseconds since the epoch
+     */
+    long timestamp();
+
+    /**
+     * The player has double jumped.
+     *
+     * @param uuid      The uuid of the player
+     * @param timestamp The time of the jump
+     * @param world     The name of the world the player jumped in
+     * @param x         The x coordinate the player jumped from
+     * @param y         The y coordinate the player jumped from
+     * @param z         The z coordinate the player jumped from
+     * @param streak    The jump streak after the jump
+     */
+    record Jump(UUID uuid, long timestamp, String world, double x, double y, double z, int streak) implements JumpRecord {
+    }
+
+    /**
+     * The jump streak of the player has been reset.
+     *
+     * @param uuid      The uuid of the player
+     * @param timestamp The time of the reset
+     * @param streak    The jump streak before the reset
+     * @param reason    The reason of the reset
+     */
+    record StreakReset(UUID uuid, long timestamp, int streak, JumpStreakResetReason reason) implements JumpRecord {
+    }
+
+    /**
+     * The player has enabled double jump mode.
+     *
+     * @param uuid      The uuid of the player
+     * @param timestamp The time double jump mode was enabled
+     */
+    record Enable(UUID uuid, long timestamp) implements JumpRecord {
+    }
+
+    /**
+     * The player has disabled double jump mode, also emitted when the player quits.
+     *
+     * @param uuid      The uuid of the player
+     * @param timestamp The time double jump mode was disabled
+     */
+    record Disable(UUID uuid, long timestamp) implements JumpRecord {
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.imdmk.doublejump.jump.stream;
+
+/**
+ * What happens to a record published while the buffer of a subscriber is full.
+ */
+public enum JumpRecordOverflowPolicy {
+
+    /**
+     * The oldest buffered record is dropped to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new record is dropped
+     */
+    DROP_NEWEST
+}
@@ -0,0 +1,102 @@
+package com.github.imdmk.doublejump.jump.stream;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Publishes {@link JumpRecord}s to subscribers on other threads, e.g. to count jumps, build heatmaps or export streaks.
+ * <p>
+ * Every subscriber has its own bounded lock-free buffer and receives records in order on the executor,
+ * publishing never blocks the publishing thread. Records published while the buffer of a subscriber is full
+ * are handled by the overflow policy configured at the time of subscribing.
+ * While there are no subscribers, records are not even created.
+ */
+public class JumpRecordPublisher implements Flow.Publisher<JumpRecord> {
+
+    private static final int MAX_BUFFER_CAPACITY = 1 << 20;
+
+    private final Executor executor;
+    private final IntSupplier bufferCapacity;
+    private final Supplier<JumpRecordOverflowPolicy> overflowPolicy;
+
+    private final List<JumpRecordSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder droppedRecords = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * @param executor       The executor delivering records to the subscribers
+     * @param bufferCapacity The supplier of the buffer capacity of new subscribers
+     * @param overflowPolicy The supplier of the overflow policy of new subscribers
+     */
+    public JumpRecordPublisher(Executor executor, IntSupplier bufferCapacity, Supplier<JumpRecordOverflowPolicy> overflowPolicy) {
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super JumpRecord> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        int bufferCapacity = Math.min(MAX_BUFFER_CAPACITY, Math.max(1, this.bufferCapacity.getAsInt()));
+
+        JumpRecordSubscription subscription = new JumpRecordSubscription(subscriber, this.executor, bufferCapacity, this.overflowPolicy.get(), this.droppedRecords, this.subscriptions);
+
+        // Added before onSubscribe, so a subscriber cancelling right away is removed again
+        this.subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+
+        if (this.closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Checks if there are subscribers, publishers should not create records otherwise.
+     *
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers() {
+        return !this.subscriptions.isEmpty();
+    }
+
+    /**
+     * Adds the record to the buffer of every subscriber, never blocks.
+     *
+     * @param record The record to publish
+     */
+    public void publish(JumpRecord record) {
+        if (this.closed) {
+            return;
+        }
+
+        for (JumpRecordSubscription subscription : this.subscriptions) {
+            subscription.offer(record);
+        }
+    }
+
+    /**
+     * Completes all subscribers once they have received the buffered records, no records are published afterwards.
+     */
+    public void close() {
+        this.closed = true;
+
+        for (JumpRecordSubscription subscription : this.subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * @return The number of records dropped because the buffer of a subscriber was full
+     */
+    public long getDroppedRecords() {
+        return this.droppedRecords.sum();
+    }
+}
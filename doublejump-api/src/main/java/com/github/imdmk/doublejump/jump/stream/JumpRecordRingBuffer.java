@@ -0,0 +1,102 @@
+package com.github.imdmk.doublejump.jump.stream;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded lock-free multi-producer multi-consumer ring buffer.
+ * <p>
+ * Every slot has a sequence number telling whether it is free for the producer or filled for the consumer of the current lap,
+ * producers and consumers claim positions with a single compare-and-set and never wait for each other.
+ * Multiple consumers are needed as producers drop the oldest record themselves when the buffer is full.
+ */
+final class JumpRecordRingBuffer {
+
+    private final JumpRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    JumpRecordRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.records = new JumpRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int index = 0; index < size; index++) {
+            this.sequences.set(index, index);
+        }
+    }
+
+    /**
+     * @param record the record to add
+     * @return true if added, false if the buffer is full
+     */
+    boolean offer(JumpRecord record) {
+        long position = this.tail.get();
+
+        while (true) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.records[index] = record;
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+
+                position = this.tail.get();
+            }
+            else if (difference < 0) {
+                return false;
+            }
+            else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return The oldest record, null if the buffer is empty
+     */
+    JumpRecord poll() {
+        long position = this.head.get();
+
+        while (true) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    JumpRecord record = this.records[index];
+                    this.records[index] = null;
+                    this.sequences.set(index, position + this.mask + 1);
+                    return record;
+                }
+
+                position = this.head.get();
+            }
+            else if (difference < 0) {
+                return null;
+            }
+            else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return this.head.get() >= this.tail.get();
+    }
+
+    int capacity() {
+        return this.records.length;
+    }
+}
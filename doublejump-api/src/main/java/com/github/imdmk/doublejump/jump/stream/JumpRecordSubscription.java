@@ -0,0 +1,152 @@
+package com.github.imdmk.doublejump.jump.stream;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The subscription of a single subscriber, buffering records until the subscriber requests them.
+ * <p>
+ * Publishing only adds to the ring buffer and schedules a drain if none is running,
+ * records are delivered by the executor so a slow subscriber only delays itself.
+ */
+final class JumpRecordSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super JumpRecord> subscriber;
+    private final Executor executor;
+    private final JumpRecordRingBuffer buffer;
+    private final JumpRecordOverflowPolicy overflowPolicy;
+    private final LongAdder droppedRecords;
+    private final List<JumpRecordSubscription> subscriptions;
+
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    JumpRecordSubscription(Flow.Subscriber<? super JumpRecord> subscriber, Executor executor, int bufferCapacity, JumpRecordOverflowPolicy overflowPolicy, LongAdder droppedRecords, List<JumpRecordSubscription> subscriptions) {
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.buffer = new JumpRecordRingBuffer(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.droppedRecords = droppedRecords;
+        this.subscriptions = subscriptions;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            this.error = new IllegalArgumentException("Requested " + n + " records, the number must be positive");
+        }
+        else {
+            this.demand.accumulateAndGet(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+        }
+
+        this.scheduleDrain();
+    }
+
+    @Override
+    public void cancel() {
+        if (this.cancelled) {
+            return;
+        }
+
+        this.cancelled = true;
+        this.subscriptions.remove(this);
+    }
+
+    void offer(JumpRecord record) {
+        if (this.cancelled) {
+            return;
+        }
+
+        if (!this.buffer.offer(record)) {
+            this.droppedRecords.increment();
+
+            // The dropped record may be taken by the subscriber in the meantime, then the new one fits without dropping another
+            if (this.overflowPolicy == JumpRecordOverflowPolicy.DROP_OLDEST) {
+                this.buffer.poll();
+                this.buffer.offer(record);
+            }
+        }
+
+        this.scheduleDrain();
+    }
+
+    void complete() {
+        this.completed = true;
+        this.scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (this.pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+
+        try {
+            this.executor.execute(this::drain);
+        }
+        catch (RuntimeException exception) {
+            // The executor rejects tasks once the plugin is disabled, the remaining records are delivered right away
+            this.drain();
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+
+        while (true) {
+            if (this.cancelled) {
+                return;
+            }
+
+            Throwable error = this.error;
+            if (error != null) {
+                this.cancel();
+                this.subscriber.onError(error);
+                return;
+            }
+
+            long requested = this.demand.get();
+            long emitted = 0;
+
+            while (emitted != requested && !this.cancelled) {
+                JumpRecord record = this.buffer.poll();
+                if (record == null) {
+                    break;
+                }
+
+                try {
+                    this.subscriber.onNext(record);
+                }
+                catch (Throwable throwable) {
+                    this.cancel();
+                    this.subscriber.onError(throwable);
+                    return;
+                }
+
+                emitted++;
+            }
+
+            if (emitted > 0 && requested != Long.MAX_VALUE) {
+                this.demand.addAndGet(-emitted);
+            }
+
+            if (this.completed && this.buffer.isEmpty() && !this.cancelled) {
+                this.cancel();
+                this.subscriber.onComplete();
+                return;
+            }
+
+            missed = this.pendingDrains.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.github.imdmk.doublejump.region;
 
 import org.bukkit.entity.Player;
 
+import java.util.Set;
+
 @FunctionalInterface
 public interface RegionProvider {
 
@@ -12,4 +14,14 @@ public interface RegionProvider {
      * @return true if the player is within an area covered by the restriction, otherwise false.
      */
     boolean isInAllowedRegion(Player player);
+
+    /**
+     * Gets the ids of the regions at the location of the player.
+     *
+     * @param player The player whose location is being checked.
+     * @return The ids of the regions, empty if regions are not supported.
+     */
+    default Set<String> getRegions(Player player) {
+        return Set.of();
+    }
 }
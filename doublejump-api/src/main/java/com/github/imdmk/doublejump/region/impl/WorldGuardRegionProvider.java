@@ -13,23 +13,31 @@ import com.sk89q.worldguard.protection.regions.RegionQuery;
 import org.bukkit.entity.Player;
 
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class WorldGuardRegionProvider implements RegionProvider {
 
-    private final JumpRestriction regionRestriction;
+    private final Supplier<JumpRestriction> regionRestriction;
 
-    public WorldGuardRegionProvider(JumpRestriction regionRestriction) {
+    public WorldGuardRegionProvider(Supplier<JumpRestriction> regionRestriction) {
         this.regionRestriction = regionRestriction;
     }
 
+    public WorldGuardRegionProvider(JumpRestriction regionRestriction) {
+        this(() -> regionRestriction);
+    }
+
     @Override
     public boolean isInAllowedRegion(Player player) {
-        Set<String> playerRegions = this.getPlayerRegions(player).getRegions().stream()
+        return this.regionRestriction.get().isAllowed(this.getRegions(player));
+    }
+
+    @Override
+    public Set<String> getRegions(Player player) {
+        return this.getPlayerRegions(player).getRegions().stream()
                 .map(ProtectedRegion::getId)
                 .collect(Collectors.toSet());
-
-        return this.regionRestriction.isAllowed(playerRegions);
     }
 
     public ApplicableRegionSet getPlayerRegions(Player player) {
@@ -5,21 +5,47 @@ import com.github.imdmk.doublejump.command.context.PlayerContext;
 import com.github.imdmk.doublejump.command.handler.NotificationHandler;
 import com.github.imdmk.doublejump.command.handler.PermissionHandler;
 import com.github.imdmk.doublejump.command.handler.UsageHandler;
+import com.github.imdmk.doublejump.configuration.ConfigurationFactory;
 import com.github.imdmk.doublejump.configuration.ConfigurationService;
+import com.github.imdmk.doublejump.configuration.ConfigurationWatcher;
+import com.github.imdmk.doublejump.configuration.cache.ConfigurationCache;
 import com.github.imdmk.doublejump.configuration.implementation.PluginConfiguration;
+import com.github.imdmk.doublejump.grid.PlayerGrid;
+import com.github.imdmk.doublejump.grid.PlayerGridListener;
+import com.github.imdmk.doublejump.jump.JumpExecutor;
+import com.github.imdmk.doublejump.jump.JumpPlayerBulkService;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpPlayerService;
+import com.github.imdmk.doublejump.jump.JumpPlayerSnapshotService;
+import com.github.imdmk.doublejump.jump.JumpSettings;
+import com.github.imdmk.doublejump.jump.chain.JumpChainListener;
+import com.github.imdmk.doublejump.jump.chain.JumpChainTracker;
+import com.github.imdmk.doublejump.jump.effect.EffectSettings;
+import com.github.imdmk.doublejump.jump.effect.EffectGovernor;
+import com.github.imdmk.doublejump.jump.effect.EffectScheduler;
+import com.github.imdmk.doublejump.jump.effect.EffectViewerResolver;
+import com.github.imdmk.doublejump.jump.event.DoubleJumpEventDispatcher;
 import com.github.imdmk.doublejump.jump.command.DoubleJumpCommand;
 import com.github.imdmk.doublejump.jump.command.DoubleJumpForCommand;
 import com.github.imdmk.doublejump.jump.command.DoubleJumpReloadCommand;
+import com.github.imdmk.doublejump.jump.ground.GroundStateListener;
+import com.github.imdmk.doublejump.jump.ground.GroundStateTracker;
+import com.github.imdmk.doublejump.jump.item.JumpItemPossessionCache;
 import com.github.imdmk.doublejump.jump.item.JumpItemService;
+import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
 import com.github.imdmk.doublejump.jump.item.command.DoubleJumpItemCommand;
 import com.github.imdmk.doublejump.jump.item.listener.JumpItemActionBlockListener;
 import com.github.imdmk.doublejump.jump.item.listener.JumpItemDisableListener;
 import com.github.imdmk.doublejump.jump.item.listener.JumpItemDropListener;
 import com.github.imdmk.doublejump.jump.item.listener.JumpItemEnableListener;
 import com.github.imdmk.doublejump.jump.item.listener.JumpItemInteractListener;
-import com.github.imdmk.doublejump.jump.listener.DoubleJumpListener;
+import com.github.imdmk.doublejump.jump.item.listener.JumpItemPossessionListener;
+import com.github.imdmk.doublejump.jump.landing.LandingPredictor;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardData;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardService;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardSettings;
+import com.github.imdmk.doublejump.jump.leaderboard.listener.JumpLeaderboardListener;
+import com.github.imdmk.doublejump.jump.leaderboard.placeholder.JumpLeaderboardPlaceholder;
 import com.github.imdmk.doublejump.jump.listener.JumpDisableListener;
 import com.github.imdmk.doublejump.jump.listener.JumpEnableListener;
 import com.github.imdmk.doublejump.jump.listener.JumpFallDamageListener;
@@ -33,19 +59,33 @@ import com.github.imdmk.doublejump.jump.placeholder.delay.JumpPlayerRegeneration
 import com.github.imdmk.doublejump.jump.placeholder.jumps.JumpPlayerHasJumpsPlaceholder;
 import com.github.imdmk.doublejump.jump.placeholder.jumps.JumpPlayerJumpsLimitPlaceholder;
 import com.github.imdmk.doublejump.jump.placeholder.jumps.JumpPlayerJumpsPlaceholder;
+import com.github.imdmk.doublejump.jump.profile.JumpProfile;
+import com.github.imdmk.doublejump.jump.profile.JumpProfileCache;
+import com.github.imdmk.doublejump.jump.profile.JumpProfileCacheListener;
 import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionService;
 import com.github.imdmk.doublejump.jump.sound.JumpSoundService;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
 import com.github.imdmk.doublejump.notification.Notification;
 import com.github.imdmk.doublejump.notification.NotificationSender;
+import com.github.imdmk.doublejump.notification.configuration.NotificationSettings;
+import com.github.imdmk.doublejump.placeholder.PlaceholderCache;
+import com.github.imdmk.doublejump.placeholder.PlaceholderCacheListener;
 import com.github.imdmk.doublejump.placeholder.PlaceholderRegistry;
+import com.github.imdmk.doublejump.placeholder.PlaceholderSettings;
 import com.github.imdmk.doublejump.region.RegionProvider;
 import com.github.imdmk.doublejump.region.impl.EmptyRegionProvider;
 import com.github.imdmk.doublejump.region.impl.WorldGuardRegionProvider;
 import com.github.imdmk.doublejump.scheduler.TaskScheduler;
 import com.github.imdmk.doublejump.scheduler.TaskSchedulerImpl;
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.StartupProfiler;
+import com.github.imdmk.doublejump.stats.StatsRegistry;
+import com.github.imdmk.doublejump.stats.timing.TimedRegionProvider;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
+import com.github.imdmk.doublejump.stats.command.DoubleJumpStatsCommand;
 import com.github.imdmk.doublejump.update.UpdateListener;
 import com.github.imdmk.doublejump.update.UpdateService;
-import com.google.common.base.Stopwatch;
+import com.github.imdmk.doublejump.util.DurationUtil;
 import dev.rollczi.litecommands.LiteCommands;
 import dev.rollczi.litecommands.bukkit.LiteCommandsBukkit;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
@@ -60,7 +100,9 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import java.io.File;
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -70,7 +112,8 @@ public class DoubleJump implements DoubleJumpApi {
     private final Logger logger;
     private final Server server;
 
-    private final PluginConfiguration pluginConfiguration;
+    private final ConfigurationService configurationService;
+    private ConfigurationWatcher configurationWatcher;
 
     private final BukkitAudiences bukkitAudiences;
     private final NotificationSender notificationSender;
@@ -78,21 +121,29 @@ public class DoubleJump implements DoubleJumpApi {
     private final RegionProvider regionProvider;
 
     private final JumpPlayerManager jumpPlayerManager;
+    private final JumpRecordPublisher jumpRecordPublisher;
 
-    private final ConfigurationService configurationService;
     private final JumpPlayerService jumpPlayerService;
+    private final JumpPlayerBulkService jumpPlayerBulkService;
+    private final JumpPlayerSnapshotService jumpPlayerSnapshotService;
     private final JumpRestrictionService jumpRestrictionService;
+    private final JumpItemService jumpItemService;
+    private final JumpItemPossessionCache possessionCache;
+
+    private final StatsRegistry statsRegistry;
+
+    private JumpLeaderboardService leaderboardService;
 
     private LiteCommands<CommandSender> liteCommands;
 
     private PlaceholderRegistry placeholderRegistry;
 
-    private final Metrics metrics;
+    private Metrics metrics;
 
     public DoubleJump(Plugin plugin) {
         DoubleJumpApiProvider.register(this);
 
-        Stopwatch stopwatch = Stopwatch.createStarted();
+        StartupProfiler startupProfiler = new StartupProfiler();
         PluginDescriptionFile pluginDescriptionFile = plugin.getDescription();
 
         this.plugin = plugin;
@@ -100,75 +151,199 @@ public class DoubleJump implements DoubleJumpApi {
         this.server = plugin.getServer();
 
         /* Configuration */
+        startupProfiler.phase("configuration");
+
         File dataFolder = plugin.getDataFolder();
-        this.configurationService = new ConfigurationService();
-        this.pluginConfiguration = this.configurationService.create(PluginConfiguration.class, new File(dataFolder, "configuration.yml"));
+        File configurationFile = new File(dataFolder, "configuration.yml");
+        ConfigurationCache configurationCache = new ConfigurationCache(new File(dataFolder, "configuration.cache"), pluginDescriptionFile.getVersion());
+        this.configurationService = new ConfigurationService(this.logger, configurationFile, configurationCache);
+
+        // Read once for values which are only applied on startup, everything else reads the current configuration
+        PluginConfiguration pluginConfiguration = this.configurationService.get().pluginConfiguration();
+
+        Supplier<JumpSettings> jumpSettings = () -> this.configurationService.get().jumpSettings();
+        Supplier<JumpItemSettings> itemSettings = () -> this.configurationService.get().itemSettings();
+        Supplier<EffectSettings> effectSettings = () -> this.configurationService.get().effectSettings();
+        Supplier<PlaceholderSettings> placeholderSettings = () -> this.configurationService.get().placeholderSettings();
+
+        TimingRegistry timingRegistry = new TimingRegistry(pluginConfiguration.timingsEnabled);
 
         /* Adventure */
+        startupProfiler.phase("adventure");
+
         this.bukkitAudiences = BukkitAudiences.create(plugin);
-        this.notificationSender = new NotificationSender(this.bukkitAudiences);
+        this.notificationSender = new NotificationSender(this.bukkitAudiences, timingRegistry.timer("notification send"));
 
         /* Hooks */
-        this.regionProvider = this.hookRegionProvider();
+        startupProfiler.phase("hooks");
+
+        this.regionProvider = new TimedRegionProvider(this.hookRegionProvider(), timingRegistry.timer("region provider"));
+
+        /* Task Scheduler */
+        startupProfiler.phase("task scheduler");
+
+        TaskScheduler taskScheduler = new TaskSchedulerImpl(plugin, this.server);
+
+        TickClock tickClock = new TickClock();
+        taskScheduler.runTimer(tickClock, 0L, 1L);
 
         /* Managers */
-        this.jumpPlayerManager = new JumpPlayerManager();
+        startupProfiler.phase("managers");
+
+        this.jumpRecordPublisher = new JumpRecordPublisher(taskScheduler::runAsync, () -> this.configurationService.get().jumpSettings().recordStreamBufferSize, () -> this.configurationService.get().jumpSettings().recordStreamOverflowPolicy);
+        this.jumpPlayerManager = new JumpPlayerManager(this.jumpRecordPublisher);
+
+        this.jumpPlayerSnapshotService = new JumpPlayerSnapshotService(this.server, this.jumpPlayerManager);
+
+        long snapshotIntervalTicks = Math.max(1L, DurationUtil.toTicks(pluginConfiguration.jumpSettings.snapshotInterval));
+        taskScheduler.runTimer(this.jumpPlayerSnapshotService, 0L, snapshotIntervalTicks);
+
+        PlayerGrid playerGrid = new PlayerGrid();
+        this.server.getOnlinePlayers().forEach(playerGrid::add);
 
         /* Services */
-        this.jumpPlayerService = new JumpPlayerService(this.regionProvider, this.jumpPlayerManager, this.pluginConfiguration.jumpSettings.restrictionSettings.worldRestriction, this.pluginConfiguration.jumpSettings.restrictionSettings.gameModeRestriction, this.pluginConfiguration.doubleJumpUsePermission, this.pluginConfiguration.jumpSettings.limitSettings.enabled, this.pluginConfiguration.jumpSettings.limitSettings.limit, this.pluginConfiguration.jumpSettings.limitSettings.limitsByPermissions);
+        startupProfiler.phase("services");
 
-        this.jumpRestrictionService = new JumpRestrictionService(this.pluginConfiguration.jumpSettings, this.pluginConfiguration.jumpSettings.restrictionSettings, this.regionProvider, this.notificationSender);
+        JumpProfileCache profileCache = new JumpProfileCache(() -> this.configurationService.get().jumpProfileIndex(), this.regionProvider);
 
-        JumpItemService jumpItemService = new JumpItemService(this.pluginConfiguration.jumpSettings.itemSettings);
-        JumpSoundService jumpSoundService = new JumpSoundService(this.pluginConfiguration);
-        UpdateService updateService = new UpdateService(pluginDescriptionFile);
+        long profilePermissionRefreshTicks = Math.max(1L, DurationUtil.toTicks(pluginConfiguration.jumpSettings.profilePermissionRefreshInterval));
+        taskScheduler.runTimer(profileCache::invalidateAll, profilePermissionRefreshTicks, profilePermissionRefreshTicks);
 
-        /* Task Scheduler */
-        TaskScheduler taskScheduler = new TaskSchedulerImpl(plugin, this.server);
+        this.jumpPlayerService = new JumpPlayerService(this.regionProvider, this.jumpPlayerManager, () -> this.configurationService.get().jumpPlayerSettings(), player -> profileCache.resolve(player).map(JumpProfile::jumpsLimit).orElse(0));
+        this.jumpPlayerBulkService = new JumpPlayerBulkService(plugin, this.jumpPlayerService, () -> this.configurationService.get().jumpSettings().bulkSpreadTicks);
+
+        this.jumpRestrictionService = new JumpRestrictionService(jumpSettings, () -> this.configurationService.get().restrictionSettings(), this.regionProvider, this.notificationSender);
+
+        this.jumpItemService = new JumpItemService(plugin, itemSettings, () -> this.configurationService.get().itemProfileIndex());
+
+        /* Configuration watcher */
+        startupProfiler.phase("configuration watcher");
+
+        if (pluginConfiguration.autoReload) {
+            this.configurationWatcher = new ConfigurationWatcher(this.logger, this.configurationService, taskScheduler, configurationFile, pluginConfiguration.autoReloadDelay);
+
+            try {
+                this.configurationWatcher.start();
+            }
+            catch (IOException exception) {
+                this.logger.log(Level.WARNING, "Could not watch the configuration file, automatic reload is disabled", exception);
+            }
+        }
+
+        /* Stats */
+        this.statsRegistry = new StatsRegistry();
+        this.statsRegistry.register(startupProfiler);
+        this.statsRegistry.register(profileCache);
+
+        if (timingRegistry.isEnabled()) {
+            this.statsRegistry.register(timingRegistry);
+        }
+
+        /* Effects */
+        startupProfiler.phase("effects");
+
+        EffectGovernor effectGovernor = new EffectGovernor(this.logger, this.server, effectSettings);
+        taskScheduler.runTimer(effectGovernor, 1L, 1L);
+        this.statsRegistry.register(effectGovernor);
+
+        EffectScheduler effectScheduler = new EffectScheduler(effectSettings);
+        taskScheduler.runTimer(effectScheduler, 1L, 1L);
+        this.statsRegistry.register(effectScheduler);
+
+        EffectViewerResolver effectViewerResolver = new EffectViewerResolver(effectSettings, playerGrid, tickClock);
+        this.statsRegistry.register(effectViewerResolver);
+
+        JumpSoundService jumpSoundService = new JumpSoundService(() -> this.configurationService.get().jumpSettings().soundSettings, effectViewerResolver, effectScheduler);
+
+        /* Jump item possession */
+        startupProfiler.phase("jump item possession");
+
+        this.possessionCache = new JumpItemPossessionCache(this.server, this.jumpItemService);
+        taskScheduler.runTimer(this.possessionCache, 1L, 1L);
+        this.statsRegistry.register(this.possessionCache);
+
+        long possessionReconcileTicks = Math.max(1L, DurationUtil.toTicks(pluginConfiguration.jumpSettings.itemSettings.possessionReconcileInterval));
+        taskScheduler.runTimer(this.possessionCache::reconcile, possessionReconcileTicks, possessionReconcileTicks);
+
+        /* Leaderboards */
+        startupProfiler.phase("leaderboards");
+
+        JumpLeaderboardSettings leaderboardSettings = pluginConfiguration.jumpSettings.leaderboardSettings;
+        if (leaderboardSettings.enabled) {
+            JumpLeaderboardData leaderboardData = ConfigurationFactory.create(JumpLeaderboardData.class, new File(dataFolder, "leaderboard.yml"));
+            this.leaderboardService = new JumpLeaderboardService(leaderboardSettings, leaderboardData);
+
+            this.server.getPluginManager().registerEvents(new JumpLeaderboardListener(this.leaderboardService), plugin);
+
+            long saveIntervalTicks = DurationUtil.toTicks(leaderboardSettings.saveInterval);
+            taskScheduler.runTimerAsync(this.leaderboardService::save, saveIntervalTicks, saveIntervalTicks);
+        }
+
+        /* Jump executor */
+        startupProfiler.phase("jump executor");
+
+        JumpChainTracker chainTracker = new JumpChainTracker();
+
+        LandingPredictor landingPredictor = new LandingPredictor(tickClock);
+        this.statsRegistry.register(landingPredictor);
+
+        GroundStateTracker groundStateTracker = new GroundStateTracker(tickClock);
+        this.statsRegistry.register(groundStateTracker);
+
+        JumpExecutor jumpExecutor = new JumpExecutor(new DoubleJumpEventDispatcher(this.server.getPluginManager()), jumpSettings, jumpSoundService, this.notificationSender, effectGovernor, effectScheduler, effectViewerResolver, this.jumpItemService, this.possessionCache, profileCache, this.leaderboardService, this.jumpRecordPublisher, chainTracker, landingPredictor);
+        this.statsRegistry.register(jumpExecutor);
 
         /* Listeners */
+        startupProfiler.phase("listeners");
+
         Stream.of(
-                new JumpItemActionBlockListener(this.pluginConfiguration.jumpSettings.itemSettings, jumpItemService),
-                new JumpItemDisableListener(this.pluginConfiguration.jumpSettings.itemSettings, jumpItemService, this.jumpPlayerManager, this.jumpPlayerService),
-                new JumpItemDropListener(this.pluginConfiguration.jumpSettings.itemSettings, jumpItemService, this.jumpPlayerService),
-                new JumpItemEnableListener(this.pluginConfiguration.jumpSettings.itemSettings, this.jumpPlayerManager, this.jumpPlayerService, jumpItemService),
-                new JumpItemInteractListener(this.server, this.pluginConfiguration.jumpSettings, this.pluginConfiguration.jumpSettings.itemSettings, this.notificationSender, this.jumpPlayerManager, this.jumpPlayerService, jumpItemService, this.jumpRestrictionService),
-                new DoubleJumpListener(this.pluginConfiguration.jumpSettings, jumpSoundService, this.notificationSender),
                 new JumpDisableListener(this.jumpPlayerManager, this.jumpPlayerService, this.jumpRestrictionService, taskScheduler),
-                new JumpEnableListener(this.server, this.pluginConfiguration.jumpSettings, this.jumpPlayerManager, this.jumpPlayerService, this.jumpRestrictionService, taskScheduler),
-                new JumpFallDamageListener(this.pluginConfiguration.jumpSettings, this.jumpPlayerManager),
+                new JumpEnableListener(jumpExecutor, jumpSettings, this.jumpPlayerManager, this.jumpPlayerService, this.jumpRestrictionService, taskScheduler, timingRegistry),
+                new JumpFallDamageListener(jumpSettings, this.jumpPlayerManager, landingPredictor, groundStateTracker, tickClock, timingRegistry),
                 new JumpRefreshListener(this.jumpPlayerService, taskScheduler),
-                new JumpRegenerationListener(this.pluginConfiguration.jumpSettings, this.notificationSender, this.jumpPlayerManager),
-                new JumpStreakResetListener(this.server, this.pluginConfiguration.jumpSettings, this.notificationSender, this.jumpPlayerManager),
-                new UpdateListener(this.logger, this.pluginConfiguration, this.notificationSender, updateService, taskScheduler)
+                new JumpRegenerationListener(jumpSettings, this.notificationSender, this.jumpPlayerManager, timingRegistry),
+                new JumpStreakResetListener(this.server, jumpSettings, this.notificationSender, this.jumpPlayerManager, this.jumpRecordPublisher, groundStateTracker, timingRegistry),
+                new JumpProfileCacheListener(profileCache),
+                new JumpChainListener(chainTracker, groundStateTracker, timingRegistry),
+                new GroundStateListener(groundStateTracker, timingRegistry),
+                new PlayerGridListener(playerGrid, timingRegistry)
         ).forEach(listener -> this.server.getPluginManager().registerEvents(listener, plugin));
 
+        // Features disabled on startup do not register their listeners at all, enabling them requires a restart
+        if (pluginConfiguration.jumpSettings.itemSettings.enabled) {
+            Stream.of(
+                    new JumpItemActionBlockListener(itemSettings, this.jumpItemService),
+                    new JumpItemDisableListener(itemSettings, this.jumpItemService, this.jumpPlayerManager, this.jumpPlayerService),
+                    new JumpItemDropListener(itemSettings, this.jumpItemService, this.jumpPlayerService),
+                    new JumpItemEnableListener(jumpSettings, itemSettings, this.jumpPlayerManager, this.jumpPlayerService, this.possessionCache, timingRegistry),
+                    new JumpItemPossessionListener(itemSettings, this.jumpItemService, this.possessionCache, timingRegistry),
+                    new JumpItemInteractListener(jumpExecutor, jumpSettings, itemSettings, this.notificationSender, this.jumpPlayerManager, this.jumpPlayerService, this.jumpItemService, this.jumpRestrictionService, timingRegistry)
+            ).forEach(listener -> this.server.getPluginManager().registerEvents(listener, plugin));
+        }
+
+        if (pluginConfiguration.checkForUpdate) {
+            UpdateService updateService = new UpdateService(pluginDescriptionFile);
+            this.server.getPluginManager().registerEvents(new UpdateListener(this.logger, () -> this.configurationService.get().pluginConfiguration(), this.notificationSender, updateService, taskScheduler), plugin);
+        }
+
         /* Lite Commands */
-        if (this.pluginConfiguration.commandSettings.doubleJumpEnabled) {
-            this.liteCommands = this.registerLiteCommands();
+        startupProfiler.phase("commands");
+
+        if (pluginConfiguration.commandSettings.doubleJumpEnabled) {
+            this.liteCommands = this.registerLiteCommands(taskScheduler);
         }
 
+        startupProfiler.finish();
+
         /* Placeholder API */
         if (this.server.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
-            this.placeholderRegistry = new PlaceholderRegistry();
-
-            Stream.of(
-                    new JumpPlayerDelayPlaceholder(pluginDescriptionFile, this.jumpPlayerManager),
-                    new JumpPlayerIsDelayPlaceholder(pluginDescriptionFile, this.pluginConfiguration.placeholderSettings, this.jumpPlayerManager),
-                    new JumpPlayerRegenerationDelayPlaceholder(pluginDescriptionFile, this.jumpPlayerManager),
-                    new JumpPlayerHasJumpsPlaceholder(pluginDescriptionFile, this.pluginConfiguration.placeholderSettings, this.jumpPlayerManager),
-                    new JumpPlayerJumpsLimitPlaceholder(pluginDescriptionFile, this.jumpPlayerManager),
-                    new JumpPlayerJumpsPlaceholder(pluginDescriptionFile, this.jumpPlayerManager),
-                    new JumpPlayerStreakPlaceholder(pluginDescriptionFile, this.jumpPlayerManager)
-            ).forEach(this.placeholderRegistry::register);
-
-            this.logger.info("Hooked PlaceholderAPI!");
+            taskScheduler.runLater(startupProfiler.deferred("placeholders", () -> this.registerPlaceholders(pluginDescriptionFile, placeholderSettings, tickClock)), 1L);
         }
 
         /* Metrics */
-        this.metrics = new Metrics((JavaPlugin) plugin, 19387);
+        taskScheduler.runLater(startupProfiler.deferred("metrics", () -> this.metrics = new Metrics((JavaPlugin) plugin, 19387)), 1L);
 
-        this.logger.info("Enabled plugin in " + stopwatch.elapsed(TimeUnit.MILLISECONDS) + "ms.");
+        this.logger.info("Enabled plugin in " + startupProfiler.getEnableMillis() + "ms (" + startupProfiler.getSummary() + ").");
     }
 
     public void disable() {
@@ -182,28 +357,70 @@ public class DoubleJump implements DoubleJumpApi {
             this.placeholderRegistry.unregisterAll();
         }
 
+        if (this.leaderboardService != null) {
+            this.leaderboardService.save();
+        }
+
+        if (this.configurationWatcher != null) {
+            this.configurationWatcher.stop();
+        }
+
+        this.jumpRecordPublisher.close();
+
         this.bukkitAudiences.close();
-        this.metrics.shutdown();
+
+        if (this.metrics != null) {
+            this.metrics.shutdown();
+        }
 
         this.disableAllowFlightForOnlinePlayers();
     }
 
-    private LiteCommands<CommandSender> registerLiteCommands() {
+    private void registerPlaceholders(PluginDescriptionFile pluginDescriptionFile, Supplier<PlaceholderSettings> placeholderSettings, TickClock tickClock) {
+        this.placeholderRegistry = new PlaceholderRegistry();
+
+        PlaceholderCache placeholderCache = new PlaceholderCache(placeholderSettings, tickClock);
+        this.statsRegistry.register(placeholderCache);
+        this.server.getPluginManager().registerEvents(new PlaceholderCacheListener(placeholderCache), this.plugin);
+
+        Stream.of(
+                new JumpPlayerDelayPlaceholder(pluginDescriptionFile, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerIsDelayPlaceholder(pluginDescriptionFile, placeholderSettings, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerRegenerationDelayPlaceholder(pluginDescriptionFile, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerHasJumpsPlaceholder(pluginDescriptionFile, placeholderSettings, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerJumpsLimitPlaceholder(pluginDescriptionFile, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerJumpsPlaceholder(pluginDescriptionFile, this.jumpPlayerManager, placeholderCache),
+                new JumpPlayerStreakPlaceholder(pluginDescriptionFile, this.jumpPlayerManager, placeholderCache)
+        ).forEach(this.placeholderRegistry::register);
+
+        if (this.leaderboardService != null) {
+            this.placeholderRegistry.register(new JumpLeaderboardPlaceholder(pluginDescriptionFile, () -> this.configurationService.get().jumpSettings().leaderboardSettings, this.leaderboardService));
+        }
+
+        this.logger.info("Hooked PlaceholderAPI!");
+    }
+
+    private LiteCommands<CommandSender> registerLiteCommands(TaskScheduler taskScheduler) {
+        Supplier<NotificationSettings> notificationSettings = () -> this.configurationService.get().notificationSettings();
+        Supplier<JumpSettings> jumpSettings = () -> this.configurationService.get().jumpSettings();
+        Supplier<JumpItemSettings> itemSettings = () -> this.configurationService.get().itemSettings();
+
         return LiteCommandsBukkit.builder("DoubleJump", this.plugin, this.server)
                 .settings(settings -> settings.nativePermissions(true))
 
                 .context(Player.class, new PlayerContext())
-                .argument(Player.class, new PlayerArgument(this.server, this.pluginConfiguration.notificationSettings))
+                .argument(Player.class, new PlayerArgument(this.server, notificationSettings))
 
-                .missingPermission(new PermissionHandler(this.pluginConfiguration.notificationSettings, this.notificationSender))
+                .missingPermission(new PermissionHandler(notificationSettings, this.notificationSender))
                 .result(Notification.class, new NotificationHandler(this.notificationSender))
-                .invalidUsage(new UsageHandler(this.pluginConfiguration.notificationSettings, this.notificationSender))
+                .invalidUsage(new UsageHandler(notificationSettings, this.notificationSender))
 
                 .commands(
-                        new DoubleJumpCommand(this.pluginConfiguration.jumpSettings, this.notificationSender, this.jumpPlayerManager, this.jumpPlayerService, this.jumpRestrictionService),
-                        new DoubleJumpReloadCommand(this.pluginConfiguration.notificationSettings, this.notificationSender, this.configurationService),
-                        new DoubleJumpForCommand(this.pluginConfiguration.jumpSettings, this.notificationSender, this.jumpPlayerService),
-                        new DoubleJumpItemCommand(this.pluginConfiguration.jumpSettings.itemSettings, this.notificationSender)
+                        new DoubleJumpCommand(jumpSettings, this.notificationSender, this.jumpPlayerManager, this.jumpPlayerService, this.jumpRestrictionService),
+                        new DoubleJumpReloadCommand(this.notificationSender, this.configurationService, taskScheduler),
+                        new DoubleJumpForCommand(jumpSettings, this.notificationSender, this.jumpPlayerService),
+                        new DoubleJumpItemCommand(itemSettings, this.notificationSender, this.jumpItemService, this.possessionCache),
+                        new DoubleJumpStatsCommand(notificationSettings, this.notificationSender, this.statsRegistry)
                 )
 
                 .build();
@@ -224,7 +441,7 @@ public class DoubleJump implements DoubleJumpApi {
     private RegionProvider hookRegionProvider() {
         if (this.server.getPluginManager().isPluginEnabled("WorldGuard")) {
             this.logger.info("Hooked WorldGuard!");
-            return new WorldGuardRegionProvider(this.pluginConfiguration.jumpSettings.restrictionSettings.regionRestriction);
+            return new WorldGuardRegionProvider(() -> this.configurationService.get().restrictionSettings().regionRestriction);
         }
 
         return new EmptyRegionProvider();
@@ -247,4 +464,22 @@ public class DoubleJump implements DoubleJumpApi {
     public JumpPlayerService getJumpPlayerService() {
         return this.jumpPlayerService;
     }
+
+    @NotNull
+    @Override
+    public JumpPlayerBulkService getJumpPlayerBulkService() {
+        return this.jumpPlayerBulkService;
+    }
+
+    @NotNull
+    @Override
+    public JumpPlayerSnapshotService getJumpPlayerSnapshotService() {
+        return this.jumpPlayerSnapshotService;
+    }
+
+    @NotNull
+    @Override
+    public JumpRecordPublisher getJumpRecordPublisher() {
+        return this.jumpRecordPublisher;
+    }
 }
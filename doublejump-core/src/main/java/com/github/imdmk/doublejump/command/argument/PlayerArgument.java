@@ -13,13 +13,14 @@ import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class PlayerArgument extends ArgumentResolver<CommandSender, Player> {
 
     private final Server server;
-    private final NotificationSettings notificationSettings;
+    private final Supplier<NotificationSettings> notificationSettings;
 
-    public PlayerArgument(Server server, NotificationSettings notificationSettings) {
+    public PlayerArgument(Server server, Supplier<NotificationSettings> notificationSettings) {
         this.server = server;
         this.notificationSettings = notificationSettings;
     }
@@ -28,7 +29,7 @@ public class PlayerArgument extends ArgumentResolver<CommandSender, Player> {
     protected ParseResult<Player> parse(Invocation<CommandSender> invocation, Argument<Player> context, String argument) {
         return Optional.ofNullable(this.server.getPlayerExact(argument))
                 .map(ParseResult::success)
-                .orElseGet(() -> ParseResult.failure(this.notificationSettings.playerNotFound));
+                .orElseGet(() -> ParseResult.failure(this.notificationSettings.get().playerNotFound));
     }
 
     @Override
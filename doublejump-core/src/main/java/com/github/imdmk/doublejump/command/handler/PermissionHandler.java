@@ -9,12 +9,14 @@ import dev.rollczi.litecommands.permission.MissingPermissions;
 import dev.rollczi.litecommands.permission.MissingPermissionsHandler;
 import org.bukkit.command.CommandSender;
 
+import java.util.function.Supplier;
+
 public class PermissionHandler implements MissingPermissionsHandler<CommandSender> {
 
-    private final NotificationSettings notificationSettings;
+    private final Supplier<NotificationSettings> notificationSettings;
     private final NotificationSender notificationSender;
 
-    public PermissionHandler(NotificationSettings notificationSettings, NotificationSender notificationSender) {
+    public PermissionHandler(Supplier<NotificationSettings> notificationSettings, NotificationSender notificationSender) {
         this.notificationSettings = notificationSettings;
         this.notificationSender = notificationSender;
     }
@@ -25,6 +27,6 @@ public class PermissionHandler implements MissingPermissionsHandler<CommandSende
         Formatter formatter = new Formatter()
                 .placeholder("{PERMISSIONS}", missingPermissions.getPermissions());
 
-        this.notificationSender.send(sender, this.notificationSettings.missingPermissions, formatter);
+        this.notificationSender.send(sender, this.notificationSettings.get().missingPermissions, formatter);
     }
 }
@@ -10,12 +10,14 @@ import dev.rollczi.litecommands.invocation.Invocation;
 import dev.rollczi.litecommands.schematic.Schematic;
 import org.bukkit.command.CommandSender;
 
+import java.util.function.Supplier;
+
 public class UsageHandler implements InvalidUsageHandler<CommandSender> {
 
-    private final NotificationSettings notificationSettings;
+    private final Supplier<NotificationSettings> notificationSettings;
     private final NotificationSender notificationSender;
 
-    public UsageHandler(NotificationSettings notificationSettings, NotificationSender notificationSender) {
+    public UsageHandler(Supplier<NotificationSettings> notificationSettings, NotificationSender notificationSender) {
         this.notificationSettings = notificationSettings;
         this.notificationSender = notificationSender;
     }
@@ -29,17 +31,17 @@ public class UsageHandler implements InvalidUsageHandler<CommandSender> {
             Formatter formatter = new Formatter()
                     .placeholder("{USAGE}", schematic.first());
 
-            this.notificationSender.send(sender, this.notificationSettings.invalidUsage, formatter);
+            this.notificationSender.send(sender, this.notificationSettings.get().invalidUsage, formatter);
             return;
         }
 
-        this.notificationSender.send(sender, this.notificationSettings.invalidUsageListFirst);
+        this.notificationSender.send(sender, this.notificationSettings.get().invalidUsageListFirst);
 
         for (String schema : schematic.all()) {
             Formatter formatter = new Formatter()
                     .placeholder("{USAGE}", schema);
 
-            this.notificationSender.send(sender, this.notificationSettings.invalidUsageList, formatter);
+            this.notificationSender.send(sender, this.notificationSettings.get().invalidUsageList, formatter);
         }
     }
 }
@@ -0,0 +1,79 @@
+package com.github.imdmk.doublejump.configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares two versions of a configuration file as flat maps of dotted keys, e.g. {@code jumpSettings.delaySettings.delay}.
+ */
+public final class ConfigurationDiff {
+
+    private ConfigurationDiff() {
+        throw new UnsupportedOperationException("This is utility class.");
+    }
+
+    /**
+     * Flattens nested maps into a single map of dotted keys. Lists and other values are kept as they are.
+     *
+     * @param values the nested values, may be null
+     * @return the flat values in the order of the nested ones
+     */
+    public static Map<String, Object> flatten(Map<?, ?> values) {
+        Map<String, Object> flatValues = new LinkedHashMap<>();
+
+        if (values != null) {
+            flatten("", values, flatValues);
+        }
+
+        return flatValues;
+    }
+
+    /**
+     * @param oldValues the flat values before the change
+     * @param newValues the flat values after the change
+     * @return The human-readable changes, empty if nothing has changed
+     */
+    public static List<String> diff(Map<String, Object> oldValues, Map<String, Object> newValues) {
+        List<String> changes = new ArrayList<>();
+
+        for (Map.Entry<String, Object> entry : newValues.entrySet()) {
+            String key = entry.getKey();
+            Object newValue = entry.getValue();
+
+            if (!oldValues.containsKey(key)) {
+                changes.add("+ " + key + ": " + newValue);
+                continue;
+            }
+
+            Object oldValue = oldValues.get(key);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add("~ " + key + ": " + oldValue + " -> " + newValue);
+            }
+        }
+
+        for (String key : oldValues.keySet()) {
+            if (!newValues.containsKey(key)) {
+                changes.add("- " + key);
+            }
+        }
+
+        return changes;
+    }
+
+    private static void flatten(String prefix, Map<?, ?> values, Map<String, Object> flatValues) {
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+
+            if (value instanceof Map<?, ?> nestedValues && !nestedValues.isEmpty()) {
+                flatten(key + ".", nestedValues, flatValues);
+            }
+            else {
+                flatValues.put(key, value);
+            }
+        }
+    }
+}
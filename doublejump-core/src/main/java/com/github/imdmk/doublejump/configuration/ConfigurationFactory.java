@@ -6,6 +6,7 @@ import com.github.imdmk.doublejump.configuration.serializer.ItemStackSerializer;
 import com.github.imdmk.doublejump.configuration.transformer.ColorTransformer;
 import com.github.imdmk.doublejump.configuration.transformer.ComponentTransformer;
 import com.github.imdmk.doublejump.configuration.transformer.EnchantmentTransformer;
+import com.github.imdmk.doublejump.jump.leaderboard.LeaderboardEntrySerializer;
 import com.github.imdmk.doublejump.jump.particle.JumpParticleSerializer;
 import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionSerializer;
 import com.github.imdmk.doublejump.jump.sound.JumpSoundSerializer;
@@ -22,6 +23,7 @@ import org.yaml.snakeyaml.representer.Representer;
 import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.File;
+import java.util.Map;
 
 public class ConfigurationFactory {
 
@@ -30,6 +32,29 @@ public class ConfigurationFactory {
     }
 
     public static <T extends OkaeriConfig> T create(Class<T> config, File dataFolder) {
+        T configFile = configure(config, dataFolder);
+        configFile.saveDefaults();
+        configFile.load(true);
+
+        return configFile;
+    }
+
+    /**
+     * Creates a config from already parsed values, without reading or writing its file.
+     *
+     * @param config the class of the config
+     * @param dataFolder the file the config is bound to
+     * @param values the values of the config, as returned by {@code OkaeriConfig#asMap}
+     * @return the loaded config
+     */
+    public static <T extends OkaeriConfig> T create(Class<T> config, File dataFolder, Map<String, Object> values) {
+        T configFile = configure(config, dataFolder);
+        configFile.load(values);
+
+        return configFile;
+    }
+
+    private static <T extends OkaeriConfig> T configure(Class<T> config, File dataFolder) {
         T configFile = ConfigManager.create(config);
 
         YamlSnakeYamlConfigurer yamlConfigurer = createYamlSnakeYamlConfigurer();
@@ -45,12 +70,11 @@ public class ConfigurationFactory {
             registry.register(new JumpRestrictionSerializer());
             registry.register(new JumpParticleSerializer());
             registry.register(new JumpSoundSerializer());
+            registry.register(new LeaderboardEntrySerializer());
         });
 
         configFile.withBindFile(dataFolder);
         configFile.withRemoveOrphans(true);
-        configFile.saveDefaults();
-        configFile.load(true);
 
         return configFile;
     }
@@ -1,25 +1,117 @@
 package com.github.imdmk.doublejump.configuration;
 
-import eu.okaeri.configs.OkaeriConfig;
+import com.github.imdmk.doublejump.configuration.cache.ConfigurationCache;
+import com.github.imdmk.doublejump.configuration.implementation.PluginConfiguration;
 
 import java.io.File;
-import java.util.HashSet;
-import java.util.Set;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Holds the current {@link RuntimeConfiguration} in a single atomic reference which all services read from.
+ * <p>
+ * Loading and compiling a configuration is safe on any thread and does not affect the current one,
+ * it takes effect once published. Publishing is a plain reference swap, readers never see a partially loaded configuration.
+ */
 public class ConfigurationService {
 
-    private final Set<OkaeriConfig> configs = new HashSet<>();
+    private final Logger logger;
+    private final File pluginConfigurationFile;
+    private final ConfigurationCache configurationCache;
+    private final AtomicReference<RuntimeConfiguration> configuration;
 
-    public <T extends OkaeriConfig> T create(Class<T> config, File file) {
-        T configFile = ConfigurationFactory.create(config, file);
+    private final List<Consumer<RuntimeConfiguration>> publishListeners = new CopyOnWriteArrayList<>();
 
-        this.configs.add(configFile);
-        return configFile;
+    public ConfigurationService(Logger logger, File pluginConfigurationFile, ConfigurationCache configurationCache) {
+        this.logger = logger;
+        this.pluginConfigurationFile = pluginConfigurationFile;
+        this.configurationCache = configurationCache;
+        this.configuration = new AtomicReference<>(this.load());
     }
 
-    public void reload() {
-        for (OkaeriConfig config : this.configs) {
-            config.load();
+    public RuntimeConfiguration get() {
+        return this.configuration.get();
+    }
+
+    /**
+     * Loads and compiles a new configuration from the configuration file without publishing it.
+     * Loads are serialized, as loading also writes missing keys back to the file.
+     *
+     * @return the loaded configuration
+     */
+    public synchronized RuntimeConfiguration load() {
+        return RuntimeConfiguration.compile(this.loadPluginConfiguration());
+    }
+
+    /**
+     * Publishes the configuration, every service reads it from now on.
+     * Should be called on the main server thread, so a single event or task never observes two configurations.
+     *
+     * @param configuration the configuration to publish
+     */
+    public void publish(RuntimeConfiguration configuration) {
+        this.configuration.set(configuration);
+        this.publishListeners.forEach(listener -> listener.accept(configuration));
+    }
+
+    /**
+     * Registers a listener called on the publishing thread after every published configuration.
+     *
+     * @param listener the listener
+     */
+    public void addPublishListener(Consumer<RuntimeConfiguration> listener) {
+        this.publishListeners.add(listener);
+    }
+
+    private PluginConfiguration loadPluginConfiguration() {
+        Optional<PluginConfiguration> cachedConfiguration = this.loadCachedPluginConfiguration();
+        if (cachedConfiguration.isPresent()) {
+            return cachedConfiguration.get();
+        }
+
+        PluginConfiguration pluginConfiguration = ConfigurationFactory.create(PluginConfiguration.class, this.pluginConfigurationFile);
+
+        try {
+            byte[] fileHash = ConfigurationCache.hash(this.pluginConfigurationFile);
+            this.configurationCache.write(fileHash, pluginConfiguration.asMap(pluginConfiguration.getConfigurer(), true));
+        }
+        catch (IOException | IllegalArgumentException exception) {
+            this.logger.log(Level.WARNING, "Could not write the configuration cache", exception);
+            this.configurationCache.delete();
+        }
+
+        return pluginConfiguration;
+    }
+
+    /**
+     * The cache is only used while the configuration file has the exact content it was written for,
+     * the file is then already up to date and does not have to be parsed and rewritten.
+     */
+    private Optional<PluginConfiguration> loadCachedPluginConfiguration() {
+        if (!this.pluginConfigurationFile.exists()) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] fileHash = ConfigurationCache.hash(this.pluginConfigurationFile);
+
+            Optional<Map<String, Object>> cachedValues = this.configurationCache.read(fileHash);
+            if (cachedValues.isEmpty()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(ConfigurationFactory.create(PluginConfiguration.class, this.pluginConfigurationFile, cachedValues.get()));
+        }
+        catch (Exception exception) {
+            this.logger.log(Level.WARNING, "Could not load the configuration cache, loading the configuration file", exception);
+            return Optional.empty();
         }
     }
 }
@@ -0,0 +1,187 @@
+package com.github.imdmk.doublejump.configuration;
+
+import com.github.imdmk.doublejump.scheduler.TaskScheduler;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reloads the configuration file automatically after it has been saved.
+ * <p>
+ * The watcher thread blocks on the {@link WatchService} while the file is idle.
+ * After a change, it waits until no further change arrives for the configured delay, so a burst of writes causes a single reload.
+ * The new file is parsed and loaded on the watcher thread and published on the main thread only if it loads,
+ * otherwise the current configuration is kept and the error is logged.
+ * <p>
+ * Changes are found by comparing the file with the values of the last published configuration,
+ * configurations published by others, e.g. the reload command, replace these values as well.
+ */
+public class ConfigurationWatcher implements Runnable {
+
+    private final Logger logger;
+    private final ConfigurationService configurationService;
+    private final TaskScheduler taskScheduler;
+    private final File configurationFile;
+    private final Duration delay;
+
+    private WatchService watchService;
+
+    private volatile Map<String, Object> currentValues;
+    private volatile RuntimeConfiguration watcherConfiguration;
+
+    public ConfigurationWatcher(Logger logger, ConfigurationService configurationService, TaskScheduler taskScheduler, File configurationFile, Duration delay) {
+        this.logger = logger;
+        this.configurationService = configurationService;
+        this.taskScheduler = taskScheduler;
+        this.configurationFile = configurationFile;
+        this.delay = delay;
+    }
+
+    public void start() throws IOException {
+        Path directory = this.configurationFile.getParentFile().toPath();
+
+        this.currentValues = this.readValues();
+        this.configurationService.addPublishListener(this::onPublish);
+
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(this, "DoubleJump Configuration Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        if (this.watchService == null) {
+            return;
+        }
+
+        try {
+            this.watchService.close();
+        }
+        catch (IOException exception) {
+            this.logger.log(Level.WARNING, "Could not close the configuration watch service", exception);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                boolean changed = this.pollEvents(this.watchService.take());
+
+                WatchKey watchKey;
+                while ((watchKey = this.watchService.poll(this.delay.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    changed |= this.pollEvents(watchKey);
+                }
+
+                if (changed) {
+                    this.reload();
+                }
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // The plugin is being disabled
+        }
+    }
+
+    private boolean pollEvents(WatchKey watchKey) {
+        boolean changed = false;
+
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+                continue;
+            }
+
+            Path changedPath = (Path) event.context();
+            if (changedPath.getFileName().toString().equals(this.configurationFile.getName())) {
+                changed = true;
+            }
+        }
+
+        watchKey.reset();
+        return changed;
+    }
+
+    private void reload() {
+        Map<String, Object> newValues;
+        try {
+            newValues = this.readValues();
+        }
+        catch (IOException | YAMLException exception) {
+            this.logger.warning("Configuration file has been changed but could not be parsed, keeping the current configuration: " + exception.getMessage());
+            return;
+        }
+
+        // Loading rewrites the file, the resulting event then finds nothing to apply
+        List<String> changes = ConfigurationDiff.diff(this.currentValues, newValues);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        RuntimeConfiguration configuration;
+        Map<String, Object> loadedValues;
+        try {
+            configuration = this.configurationService.load();
+            loadedValues = this.readValues();
+        }
+        catch (Exception exception) {
+            this.logger.log(Level.WARNING, "Configuration file has been changed but could not be loaded, keeping the current configuration", exception);
+            return;
+        }
+
+        this.currentValues = loadedValues;
+        this.watcherConfiguration = configuration;
+        this.taskScheduler.runLater(() -> this.configurationService.publish(configuration), 0L);
+
+        StringBuilder message = new StringBuilder("Reloaded configuration file, " + changes.size() + " changed keys:");
+        for (String change : changes) {
+            message.append("\n  ").append(change);
+        }
+
+        this.logger.info(message.toString());
+    }
+
+    private void onPublish(RuntimeConfiguration configuration) {
+        // The values of configurations published by the watcher are already current
+        if (configuration == this.watcherConfiguration) {
+            return;
+        }
+
+        try {
+            this.currentValues = this.readValues();
+        }
+        catch (IOException | YAMLException exception) {
+            this.logger.warning("Could not read the published configuration file, the next automatic reload may report unchanged keys: " + exception.getMessage());
+        }
+    }
+
+    private Map<String, Object> readValues() throws IOException {
+        if (!this.configurationFile.exists()) {
+            return Map.of();
+        }
+
+        try (Reader reader = Files.newBufferedReader(this.configurationFile.toPath(), StandardCharsets.UTF_8)) {
+            Object values = new Yaml().load(reader);
+            return values instanceof Map<?, ?> map ? ConfigurationDiff.flatten(map) : Map.of();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.imdmk.doublejump.configuration;
+
+import com.github.imdmk.doublejump.configuration.implementation.PluginConfiguration;
+import com.github.imdmk.doublejump.jump.JumpPlayerSettings;
+import com.github.imdmk.doublejump.jump.JumpSettings;
+import com.github.imdmk.doublejump.jump.effect.EffectSettings;
+import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfileIndex;
+import com.github.imdmk.doublejump.jump.profile.JumpProfileIndex;
+import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionSettings;
+import com.github.imdmk.doublejump.notification.configuration.NotificationSettings;
+import com.github.imdmk.doublejump.placeholder.PlaceholderSettings;
+
+/**
+ * A loaded plugin configuration together with the tables compiled from it.
+ * <p>
+ * Every reload loads a new {@link PluginConfiguration} instead of reloading the current one,
+ * so a published runtime configuration is never modified and can be read from any thread.
+ *
+ * @param pluginConfiguration the loaded configuration
+ * @param jumpPlayerSettings the restrictions and limits of the jump player service
+ * @param itemProfileIndex the index of jump item profiles
+ * @param jumpProfileIndex the lookup table of jump profiles
+ */
+public record RuntimeConfiguration(PluginConfiguration pluginConfiguration, JumpPlayerSettings jumpPlayerSettings, JumpItemProfileIndex itemProfileIndex, JumpProfileIndex jumpProfileIndex) {
+
+    public static RuntimeConfiguration compile(PluginConfiguration pluginConfiguration) {
+        JumpSettings jumpSettings = pluginConfiguration.jumpSettings;
+
+        JumpPlayerSettings jumpPlayerSettings = new JumpPlayerSettings(
+                jumpSettings.restrictionSettings.worldRestriction,
+                jumpSettings.restrictionSettings.gameModeRestriction,
+                pluginConfiguration.doubleJumpUsePermission,
+                jumpSettings.limitSettings.enabled,
+                jumpSettings.limitSettings.limit,
+                jumpSettings.limitSettings.limitsByPermissions
+        );
+
+        return new RuntimeConfiguration(pluginConfiguration, jumpPlayerSettings, new JumpItemProfileIndex(jumpSettings.itemSettings), new JumpProfileIndex(jumpSettings));
+    }
+
+    public JumpSettings jumpSettings() {
+        return this.pluginConfiguration.jumpSettings;
+    }
+
+    public JumpItemSettings itemSettings() {
+        return this.pluginConfiguration.jumpSettings.itemSettings;
+    }
+
+    public EffectSettings effectSettings() {
+        return this.pluginConfiguration.jumpSettings.effectSettings;
+    }
+
+    public JumpRestrictionSettings restrictionSettings() {
+        return this.pluginConfiguration.jumpSettings.restrictionSettings;
+    }
+
+    public NotificationSettings notificationSettings() {
+        return this.pluginConfiguration.notificationSettings;
+    }
+
+    public PlaceholderSettings placeholderSettings() {
+        return this.pluginConfiguration.placeholderSettings;
+    }
+}
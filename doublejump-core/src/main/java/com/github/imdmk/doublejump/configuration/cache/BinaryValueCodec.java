@@ -0,0 +1,150 @@
+package com.github.imdmk.doublejump.configuration.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the simple values of a configuration tree: null, strings, booleans, numbers, lists and maps with string keys.
+ */
+public final class BinaryValueCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+
+    private BinaryValueCodec() {
+        throw new UnsupportedOperationException("This is utility class.");
+    }
+
+    /**
+     * @param output the output to write to
+     * @param value the value to write
+     * @throws IOException if the output fails
+     * @throws IllegalArgumentException if the value or any nested value is not supported
+     */
+    public static void write(DataOutput output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        }
+        else if (value instanceof String string) {
+            output.writeByte(STRING);
+            writeString(output, string);
+        }
+        else if (value instanceof Boolean bool) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean(bool);
+        }
+        else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            output.writeByte(INTEGER);
+            output.writeInt(((Number) value).intValue());
+        }
+        else if (value instanceof Long longValue) {
+            output.writeByte(LONG);
+            output.writeLong(longValue);
+        }
+        else if (value instanceof Float floatValue) {
+            output.writeByte(FLOAT);
+            output.writeFloat(floatValue);
+        }
+        else if (value instanceof Double doubleValue) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(doubleValue);
+        }
+        else if (value instanceof List<?> list) {
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+
+            for (Object element : list) {
+                write(output, element);
+            }
+        }
+        else if (value instanceof Map<?, ?> map) {
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(output, String.valueOf(entry.getKey()));
+                write(output, entry.getValue());
+            }
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * @param input the input to read from
+     * @return The read value, lists and maps keep their order
+     * @throws IOException if the input fails or contains an unknown type
+     */
+    public static Object read(DataInput input) throws IOException {
+        byte type = input.readByte();
+
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> readString(input);
+            case BOOLEAN -> input.readBoolean();
+            case INTEGER -> input.readInt();
+            case LONG -> input.readLong();
+            case FLOAT -> input.readFloat();
+            case DOUBLE -> input.readDouble();
+            case LIST -> {
+                int size = readSize(input);
+                List<Object> list = new ArrayList<>(size);
+
+                for (int index = 0; index < size; index++) {
+                    list.add(read(input));
+                }
+
+                yield list;
+            }
+            case MAP -> {
+                int size = readSize(input);
+                Map<String, Object> map = new LinkedHashMap<>();
+
+                for (int index = 0; index < size; index++) {
+                    String key = readString(input);
+                    map.put(key, read(input));
+                }
+
+                yield map;
+            }
+            default -> throw new IOException("Unknown value type: " + type);
+        };
+    }
+
+    private static void writeString(DataOutput output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        byte[] bytes = new byte[readSize(input)];
+        input.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readSize(DataInput input) throws IOException {
+        int size = input.readInt();
+        if (size < 0) {
+            throw new IOException("Negative size: " + size);
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.imdmk.doublejump.configuration.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binary cache of the values of a configuration file, valid only for the exact file content and plugin version it was written for.
+ * <p>
+ * The cache header holds the SHA-256 hash of the configuration file,
+ * so reading it only requires hashing the file instead of parsing it.
+ */
+public class ConfigurationCache {
+
+    private static final int MAGIC = 0x444A4346;
+    private static final int FORMAT_VERSION = 1;
+
+    private final File cacheFile;
+    private final String version;
+
+    /**
+     * @param cacheFile the file the cache is stored in
+     * @param version the version of the plugin, a cache written by another version is never used
+     */
+    public ConfigurationCache(File cacheFile, String version) {
+        this.cacheFile = cacheFile;
+        this.version = version;
+    }
+
+    /**
+     * @param fileHash the hash of the current configuration file
+     * @return The cached values, empty if there is no cache, it belongs to another file content or it cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Map<String, Object>> read(byte[] fileHash) {
+        if (!this.cacheFile.exists()) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.cacheFile.toPath())))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || !input.readUTF().equals(this.version)) {
+                return Optional.empty();
+            }
+
+            byte[] cachedFileHash = new byte[input.readUnsignedByte()];
+            input.readFully(cachedFileHash);
+
+            if (!Arrays.equals(cachedFileHash, fileHash)) {
+                return Optional.empty();
+            }
+
+            return BinaryValueCodec.read(input) instanceof Map<?, ?> values ? Optional.of((Map<String, Object>) values) : Optional.empty();
+        }
+        catch (IOException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the cache atomically, a failed write never leaves a partial cache behind.
+     *
+     * @param fileHash the hash of the configuration file the values were loaded from
+     * @param values the values of the configuration
+     * @throws IOException if the cache cannot be written
+     * @throws IllegalArgumentException if the values contain an unsupported type
+     */
+    public void write(byte[] fileHash, Map<String, Object> values) throws IOException {
+        Path cachePath = this.cacheFile.toPath();
+        Path temporaryPath = cachePath.resolveSibling(this.cacheFile.getName() + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(this.version);
+            output.writeByte(fileHash.length);
+            output.write(fileHash);
+
+            BinaryValueCodec.write(output, values);
+        }
+        catch (IOException | IllegalArgumentException exception) {
+            Files.deleteIfExists(temporaryPath);
+            throw exception;
+        }
+
+        Files.move(temporaryPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void delete() {
+        this.cacheFile.delete();
+    }
+
+    /**
+     * @param file the file to hash
+     * @return The SHA-256 hash of the file content
+     * @throws IOException if the file cannot be read
+     */
+    public static byte[] hash(File file) throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
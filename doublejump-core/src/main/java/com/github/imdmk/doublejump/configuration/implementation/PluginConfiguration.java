@@ -8,6 +8,8 @@ import eu.okaeri.configs.OkaeriConfig;
 import eu.okaeri.configs.annotation.Comment;
 import eu.okaeri.configs.annotation.Header;
 
+import java.time.Duration;
+
 @Header({
         "#",
         "# Configuration file for the DoubleJump plugin.",
@@ -30,6 +32,23 @@ public class PluginConfiguration extends OkaeriConfig {
     @Comment("# Double jump use permission")
     public String doubleJumpUsePermission = "doublejump.use";
 
+    @Comment({
+            "# Specifies whether this file should be reloaded automatically after it is saved",
+            "# Changes are applied only if the file is valid, otherwise the current configuration is kept",
+            "# Requires a restart to take effect"
+    })
+    public boolean autoReload = false;
+
+    @Comment("# How long the file must stay unchanged before it is reloaded, so editors saving in several steps cause a single reload")
+    public Duration autoReloadDelay = Duration.ofMillis(500);
+
+    @Comment({
+            "# Specifies whether to measure the time spent in listeners, region checks and notifications",
+            "# The timings are shown in /doublejump stats, when disabled the timers do nothing at all",
+            "# Requires a restart to take effect"
+    })
+    public boolean timingsEnabled = true;
+
     @Comment({"# ", "# Command settings", "# "})
     public CommandSettings commandSettings = new CommandSettings();
 
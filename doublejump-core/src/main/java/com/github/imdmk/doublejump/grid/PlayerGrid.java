@@ -0,0 +1,161 @@
+package com.github.imdmk.doublejump.grid;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-world spatial hash of online players, bucketed by chunk.
+ * <p>
+ * Players are only re-bucketed when they cross a chunk boundary, change world, teleport, join or quit,
+ * so nearby-player queries never have to scan non-player entities.
+ * <p>
+ * Must only be accessed from the main server thread.
+ */
+public class PlayerGrid {
+
+    private static final int CELL_SHIFT = 4;
+
+    private final Map<UUID, Map<Long, Set<Player>>> worlds = new HashMap<>();
+    private final Map<UUID, GridCell> positions = new HashMap<>();
+
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+
+    public void add(Player player) {
+        this.move(player, player.getLocation());
+    }
+
+    public void remove(Player player) {
+        GridCell cell = this.positions.remove(player.getUniqueId());
+        if (cell == null) {
+            return;
+        }
+
+        this.removeFromCell(player, cell);
+    }
+
+    /**
+     * Updates the cell of the given player if the target location lies in a different chunk or world.
+     *
+     * @param player the player to move
+     * @param location the new location of the player
+     */
+    public void move(Player player, Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        GridCell newCell = new GridCell(world.getUID(), toCellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT));
+        GridCell oldCell = this.positions.put(player.getUniqueId(), newCell);
+
+        if (newCell.equals(oldCell)) {
+            return;
+        }
+
+        if (oldCell != null) {
+            this.removeFromCell(player, oldCell);
+        }
+
+        this.worlds.computeIfAbsent(newCell.worldId(), worldId -> new HashMap<>())
+                .computeIfAbsent(newCell.key(), key -> new LinkedHashSet<>())
+                .add(player);
+    }
+
+    /**
+     * Returns online players within the given spherical radius of the center, in the same world.
+     *
+     * @param center the center of the query
+     * @param radius the radius in blocks
+     * @return the players found, possibly including a player standing at the center
+     */
+    public List<Player> getNearbyPlayers(Location center, double radius) {
+        World world = center.getWorld();
+        if (world == null) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Set<Player>> cells = this.worlds.get(world.getUID());
+        if (cells == null || cells.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        double centerX = center.getX();
+        double centerY = center.getY();
+        double centerZ = center.getZ();
+        double radiusSquared = radius * radius;
+
+        int minCellX = (int) Math.floor(centerX - radius) >> CELL_SHIFT;
+        int maxCellX = (int) Math.floor(centerX + radius) >> CELL_SHIFT;
+        int minCellZ = (int) Math.floor(centerZ - radius) >> CELL_SHIFT;
+        int maxCellZ = (int) Math.floor(centerZ + radius) >> CELL_SHIFT;
+
+        List<Player> nearbyPlayers = new ArrayList<>();
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Set<Player> players = cells.get(toCellKey(cellX, cellZ));
+                if (players == null) {
+                    continue;
+                }
+
+                for (Player player : players) {
+                    Location location = player.getLocation(this.scratchLocation);
+
+                    double distanceX = location.getX() - centerX;
+                    double distanceY = location.getY() - centerY;
+                    double distanceZ = location.getZ() - centerZ;
+
+                    if (distanceX * distanceX + distanceY * distanceY + distanceZ * distanceZ <= radiusSquared) {
+                        nearbyPlayers.add(player);
+                    }
+                }
+            }
+        }
+
+        return nearbyPlayers;
+    }
+
+    public void clear() {
+        this.worlds.clear();
+        this.positions.clear();
+    }
+
+    private void removeFromCell(Player player, GridCell cell) {
+        Map<Long, Set<Player>> cells = this.worlds.get(cell.worldId());
+        if (cells == null) {
+            return;
+        }
+
+        Set<Player> players = cells.get(cell.key());
+        if (players == null) {
+            return;
+        }
+
+        players.remove(player);
+
+        if (players.isEmpty()) {
+            cells.remove(cell.key());
+        }
+
+        if (cells.isEmpty()) {
+            this.worlds.remove(cell.worldId());
+        }
+    }
+
+    private static long toCellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private record GridCell(UUID worldId, long key) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.imdmk.doublejump.grid;
+
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+public class PlayerGridListener implements Listener {
+
+    private final PlayerGrid playerGrid;
+    private final HotPathTimer moveTimer;
+
+    public PlayerGridListener(PlayerGrid playerGrid, TimingRegistry timingRegistry) {
+        this.playerGrid = playerGrid;
+        this.moveTimer = timingRegistry.timer("move: player grid");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        this.playerGrid.add(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.playerGrid.remove(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        long startNanos = this.moveTimer.start();
+
+        try {
+            Location from = event.getFrom();
+            Location to = event.getTo();
+
+            if (to == null || !this.isCellChanged(from, to)) {
+                return;
+            }
+
+            this.playerGrid.move(event.getPlayer(), to);
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Location to = event.getTo();
+        if (to == null) {
+            return;
+        }
+
+        this.playerGrid.move(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        this.playerGrid.add(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        this.playerGrid.move(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    private boolean isCellChanged(Location from, Location to) {
+        return from.getWorld() != to.getWorld()
+                || from.getBlockX() >> 4 != to.getBlockX() >> 4
+                || from.getBlockZ() >> 4 != to.getBlockZ() >> 4;
+    }
+}
@@ -0,0 +1,294 @@
+package com.github.imdmk.doublejump.jump;
+
+import com.github.imdmk.doublejump.jump.chain.JumpChainTracker;
+import com.github.imdmk.doublejump.jump.chain.JumpVelocityTable;
+import com.github.imdmk.doublejump.jump.effect.EffectGovernor;
+import com.github.imdmk.doublejump.jump.effect.EffectScheduler;
+import com.github.imdmk.doublejump.jump.effect.EffectViewerResolver;
+import com.github.imdmk.doublejump.jump.event.DoubleJumpEvent;
+import com.github.imdmk.doublejump.jump.event.DoubleJumpEventDispatcher;
+import com.github.imdmk.doublejump.jump.event.DoubleJumpPerformedEvent;
+import com.github.imdmk.doublejump.jump.item.JumpItemPossessionCache;
+import com.github.imdmk.doublejump.jump.item.JumpItemService;
+import com.github.imdmk.doublejump.jump.item.JumpItemUsage;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
+import com.github.imdmk.doublejump.jump.landing.LandingPredictor;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardService;
+import com.github.imdmk.doublejump.jump.particle.JumpParticle;
+import com.github.imdmk.doublejump.jump.profile.JumpProfile;
+import com.github.imdmk.doublejump.jump.profile.JumpProfileCache;
+import com.github.imdmk.doublejump.jump.sound.JumpSoundService;
+import com.github.imdmk.doublejump.jump.stream.JumpRecord;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
+import com.github.imdmk.doublejump.notification.NotificationSender;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import com.github.imdmk.doublejump.stats.jfr.JumpExecutedJfrEvent;
+import com.github.imdmk.doublejump.text.Formatter;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Executes double jumps.
+ * <p>
+ * The velocity, jump cost and cooldown are resolved from the settings, the jump profile of the player and the used jump item profile.
+ * While jump chains are enabled, the velocity of each jump in the chain is read from the precomputed velocity table of the jump profile.
+ * While {@link DoubleJumpEvent} has listeners they can change or cancel the jump, otherwise no event is constructed at all.
+ * {@link DoubleJumpPerformedEvent} is only called while it has listeners as well.
+ */
+public class JumpExecutor implements StatsProvider {
+
+    private final DoubleJumpEventDispatcher eventDispatcher;
+    private final Supplier<JumpSettings> jumpSettings;
+    private final JumpSoundService jumpSoundService;
+    private final NotificationSender notificationSender;
+    private final EffectGovernor effectGovernor;
+    private final EffectScheduler effectScheduler;
+    private final EffectViewerResolver effectViewerResolver;
+    private final JumpItemService jumpItemService;
+    private final JumpItemPossessionCache possessionCache;
+    private final JumpProfileCache profileCache;
+    private final JumpLeaderboardService leaderboardService;
+    private final JumpRecordPublisher jumpRecordPublisher;
+    private final JumpChainTracker chainTracker;
+    private final LandingPredictor landingPredictor;
+
+    private final LongAdder directJumps = new LongAdder();
+    private final LongAdder dispatchedJumps = new LongAdder();
+    private final LongAdder cancelledJumps = new LongAdder();
+
+    /**
+     * @param leaderboardService the leaderboard service, null if leaderboards are disabled
+     */
+    public JumpExecutor(DoubleJumpEventDispatcher eventDispatcher, Supplier<JumpSettings> jumpSettings, JumpSoundService jumpSoundService, NotificationSender notificationSender, EffectGovernor effectGovernor, EffectScheduler effectScheduler, EffectViewerResolver effectViewerResolver, JumpItemService jumpItemService, JumpItemPossessionCache possessionCache, JumpProfileCache profileCache, JumpLeaderboardService leaderboardService, JumpRecordPublisher jumpRecordPublisher, JumpChainTracker chainTracker, LandingPredictor landingPredictor) {
+        this.eventDispatcher = eventDispatcher;
+        this.jumpSettings = jumpSettings;
+        this.jumpSoundService = jumpSoundService;
+        this.notificationSender = notificationSender;
+        this.effectGovernor = effectGovernor;
+        this.effectScheduler = effectScheduler;
+        this.effectViewerResolver = effectViewerResolver;
+        this.jumpItemService = jumpItemService;
+        this.possessionCache = possessionCache;
+        this.profileCache = profileCache;
+        this.leaderboardService = leaderboardService;
+        this.jumpRecordPublisher = jumpRecordPublisher;
+        this.chainTracker = chainTracker;
+        this.landingPredictor = landingPredictor;
+    }
+
+    /**
+     * Executes a double jump of the player which has passed all restrictions.
+     *
+     * @param player the jumping player
+     * @param jumpPlayer the jump player of the player
+     */
+    public void execute(Player player, JumpPlayer jumpPlayer) {
+        JumpExecutedJfrEvent event = new JumpExecutedJfrEvent();
+        event.begin();
+
+        int stage = this.chainTracker.getStage(player.getUniqueId());
+        boolean performed = this.executeJump(player, jumpPlayer);
+
+        event.complete(player, stage, performed);
+    }
+
+    private boolean executeJump(Player player, JumpPlayer jumpPlayer) {
+        JumpSettings jumpSettings = this.jumpSettings.get();
+        Optional<JumpItemProfile> profile = this.resolveProfile(jumpSettings, player);
+
+        Optional<JumpProfile> jumpProfile = this.profileCache.resolve(player);
+        JumpVelocityTable velocityTable = this.resolveVelocityTable(jumpProfile);
+
+        boolean chainsEnabled = jumpSettings.chainSettings.enabled;
+        int stage = chainsEnabled ? this.chainTracker.getStage(player.getUniqueId()) : 0;
+        if (stage >= velocityTable.getStages()) {
+            return false;
+        }
+
+        double stageMultiplier = velocityTable.getStageMultiplier(stage);
+
+        double jumpMultiple = profile.map(JumpItemProfile::jumpMultiple).filter(value -> value > 0)
+                .map(value -> value * stageMultiplier)
+                .orElse(velocityTable.getJumpMultiple(stage));
+
+        double jumpUp = profile.map(JumpItemProfile::jumpUp).filter(value -> value > 0)
+                .map(value -> value * stageMultiplier)
+                .orElse(velocityTable.getJumpUp(stage));
+
+        Location location = player.getLocation();
+        Vector velocity = location.getDirection()
+                .multiply(jumpMultiple)
+                .setY(jumpUp);
+
+        boolean lastStage = stage + 1 >= velocityTable.getStages();
+
+        int jumpCost = jumpSettings.limitSettings.enabled ? 1 : 0;
+        Duration cooldown;
+
+        if (!lastStage) {
+            cooldown = jumpSettings.chainSettings.stageDelay;
+        }
+        else if (jumpSettings.delaySettings.enabled) {
+            cooldown = jumpProfile.map(JumpProfile::delay).filter(delay -> !delay.isZero()).orElse(jumpSettings.delaySettings.delay);
+        }
+        else {
+            cooldown = Duration.ZERO;
+        }
+
+        if (this.eventDispatcher.hasPreJumpListeners()) {
+            this.dispatchedJumps.increment();
+
+            DoubleJumpEvent event = this.eventDispatcher.callPreJump(player, jumpPlayer, velocity, jumpCost, cooldown);
+            boolean cancelled = event.isCancelled();
+
+            velocity = event.getVelocity();
+            jumpCost = event.getJumpCost();
+            cooldown = event.getCooldown();
+
+            this.eventDispatcher.releasePreJump(event);
+
+            if (cancelled) {
+                this.cancelledJumps.increment();
+                return false;
+            }
+        }
+        else {
+            this.directJumps.increment();
+        }
+
+        this.perform(player, jumpPlayer, jumpSettings, profile, velocity, jumpCost, cooldown);
+
+        if (chainsEnabled) {
+            this.chainTracker.advance(player.getUniqueId());
+        }
+
+        this.eventDispatcher.callPostJump(player, jumpPlayer, velocity, jumpCost, cooldown);
+
+        if (this.jumpRecordPublisher.hasSubscribers()) {
+            this.jumpRecordPublisher.publish(new JumpRecord.Jump(player.getUniqueId(), System.currentTimeMillis(), player.getWorld().getName(), location.getX(), location.getY(), location.getZ(), jumpPlayer.getStreak()));
+        }
+
+        return true;
+    }
+
+    private void perform(Player player, JumpPlayer jumpPlayer, JumpSettings jumpSettings, Optional<JumpItemProfile> profile, Vector velocity, int jumpCost, Duration cooldown) {
+        player.setFlying(false);
+        player.setAllowFlight(false);
+        player.setVelocity(velocity);
+
+        if (jumpSettings.jumpFallDamageEnabled) {
+            this.landingPredictor.predict(player.getUniqueId(), player.getLocation(), velocity);
+        }
+
+        if (!cooldown.isZero()) {
+            jumpPlayer.addDelay(cooldown);
+        }
+
+        if (this.jumpSoundService.isSoundsEnabled()) {
+            this.jumpSoundService.play(player);
+
+            if (this.jumpSoundService.isPlayNearbyEnabled()) {
+                if (this.effectGovernor.isNearbySoundsAllowed()) {
+                    this.jumpSoundService.playNearby(player);
+                }
+                else {
+                    this.effectGovernor.recordNearbySoundShed();
+                }
+            }
+        }
+
+        if (jumpSettings.particleSettings.enabled) {
+            double particleScale = this.effectGovernor.getParticleScale();
+            List<Player> particleViewers = this.effectViewerResolver.resolve(player, jumpSettings.effectSettings.particleViewerDistance);
+
+            List<JumpParticle> particles = profile.map(JumpItemProfile::particles).filter(list -> !list.isEmpty()).orElse(jumpSettings.particleSettings.particles);
+
+            Location jumpLocation = player.getLocation().clone();
+
+            for (JumpParticle jumpParticle : particles) {
+                int packets = jumpParticle.getPacketCount(particleScale) * particleViewers.size();
+                this.effectScheduler.submit(player, packets, () -> this.effectGovernor.recordParticlesShed(jumpParticle.spawn(jumpLocation, particleViewers, particleScale)));
+            }
+        }
+
+        if (jumpSettings.streakSettings.enabled) {
+            jumpPlayer.addStreak(1);
+
+            if (this.leaderboardService != null) {
+                this.leaderboardService.updateStreak(player, jumpPlayer.getStreak());
+            }
+
+            if (this.effectGovernor.isCosmeticNotificationsAllowed()) {
+                Formatter formatter = new Formatter()
+                        .placeholder("{STREAK}", jumpPlayer.getStreak());
+
+                this.notificationSender.send(player, jumpSettings.streakSettings.notificationSettings.jumpStreakIncreased, formatter);
+            }
+            else {
+                this.effectGovernor.recordNotificationShed();
+            }
+        }
+
+        if (jumpSettings.limitSettings.enabled && jumpCost > 0) {
+            jumpPlayer.removeJumps(jumpCost);
+
+            if (!jumpSettings.limitSettings.regenerationDelay.isZero()) {
+                jumpPlayer.addJumpRegenerationDelay(jumpSettings.limitSettings.regenerationDelay);
+            }
+        }
+    }
+
+    /**
+     * @param player the player
+     * @return Whether the player has jumps of the current chain left, always true while jump chains are disabled
+     */
+    public boolean hasChainJumps(Player player) {
+        if (!this.jumpSettings.get().chainSettings.enabled || !this.chainTracker.isChaining(player.getUniqueId())) {
+            return true;
+        }
+
+        JumpVelocityTable velocityTable = this.resolveVelocityTable(this.profileCache.resolve(player));
+        return this.chainTracker.getStage(player.getUniqueId()) < velocityTable.getStages();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Jump executor";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("direct jumps", this.directJumps.sum());
+        stats.put("dispatched jumps", this.dispatchedJumps.sum());
+        stats.put("cancelled jumps", this.cancelledJumps.sum());
+        return stats;
+    }
+
+    private JumpVelocityTable resolveVelocityTable(Optional<JumpProfile> jumpProfile) {
+        return jumpProfile.map(JumpProfile::velocityTable).orElseGet(this.profileCache::getDefaultVelocityTable);
+    }
+
+    private Optional<JumpItemProfile> resolveProfile(JumpSettings jumpSettings, Player player) {
+        if (!jumpSettings.itemSettings.enabled) {
+            return Optional.empty();
+        }
+
+        Optional<JumpItemProfile> activeProfile = this.possessionCache.getActiveProfile(player);
+        if (activeProfile.isPresent()) {
+            return activeProfile;
+        }
+
+        return this.jumpItemService.resolve(player.getInventory().getItemInMainHand())
+                .filter(profile -> profile.usage() == JumpItemUsage.CLICK_ITEM);
+    }
+}
@@ -1,15 +1,21 @@
 package com.github.imdmk.doublejump.jump;
 
+import com.github.imdmk.doublejump.jump.effect.EffectSettings;
 import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardSettings;
 import com.github.imdmk.doublejump.jump.particle.JumpParticleSettings;
+import com.github.imdmk.doublejump.jump.profile.JumpProfileSettings;
 import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionSettings;
 import com.github.imdmk.doublejump.jump.sound.JumpSoundSettings;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordOverflowPolicy;
 import com.github.imdmk.doublejump.notification.Notification;
 import com.github.imdmk.doublejump.notification.NotificationType;
 import eu.okaeri.configs.OkaeriConfig;
 import eu.okaeri.configs.annotation.Comment;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class JumpSettings extends OkaeriConfig {
@@ -35,12 +41,57 @@ public class JumpSettings extends OkaeriConfig {
     @Comment("# The value of how much up the jump is to be made")
     public double jumpUp = 0.6;
 
+    @Comment({
+            "# Jump profiles overriding the jump velocity, delay and limit by world, permission and region",
+            "# The first profile matching the world, permission and region of the player is used, so list more specific profiles first",
+            "# Example:",
+            "# parkour:",
+            "#   worlds: [parkour]",
+            "#   permission: 'doublejump.profile.parkour'",
+            "#   regions: []",
+            "#   jumpMultiple: 0.5",
+            "#   jumpUp: 0.8",
+            "#   delay: 1s",
+            "#   jumpsLimit: 0"
+    })
+    public Map<String, JumpProfileSettings> profiles = new LinkedHashMap<>();
+
+    @Comment({
+            "# How often the cached jump profiles of players are dropped to pick up permission changes",
+            "# Changing this requires a restart"
+    })
+    public Duration profilePermissionRefreshInterval = Duration.ofSeconds(30);
+
+    @Comment({
+            "# The number of ticks over which other plugins enabling or disabling double jump for many players at once spread the changes",
+            "# 1 applies all changes at once"
+    })
+    public int bulkSpreadTicks = 5;
+
+    @Comment({
+            "# How often the snapshot of all jump players shared with other plugins reading them asynchronously is taken",
+            "# Changing this requires a restart"
+    })
+    public Duration snapshotInterval = Duration.ofSeconds(1);
+
+    @Comment("# The number of records buffered for each plugin subscribed to the jump record stream")
+    public int recordStreamBufferSize = 1024;
+
+    @Comment({
+            "# What happens to new records while the buffer of a subscriber is full",
+            "# DROP_OLDEST - drops the oldest buffered record, DROP_NEWEST - drops the new record"
+    })
+    public JumpRecordOverflowPolicy recordStreamOverflowPolicy = JumpRecordOverflowPolicy.DROP_OLDEST;
+
     @Comment({"#", "# Jump sound settings", "#"})
     public JumpSoundSettings soundSettings = new JumpSoundSettings();
 
     @Comment({"#", "# Jump particle settings", "#"})
     public JumpParticleSettings particleSettings = new JumpParticleSettings();
 
+    @Comment({"#", "# Jump effect quality settings under server load", "#"})
+    public EffectSettings effectSettings = new EffectSettings();
+
     @Comment({"#", "# Jump restrictions settings", "#"})
     public JumpRestrictionSettings restrictionSettings = new JumpRestrictionSettings();
 
@@ -74,6 +125,9 @@ public class JumpSettings extends OkaeriConfig {
         }
     }
 
+    @Comment({"# ", "# Jump streak leaderboard settings", "# "})
+    public JumpLeaderboardSettings leaderboardSettings = new JumpLeaderboardSettings();
+
     @Comment({"# ", "# Jump delay settings", "# "})
     public JumpDelaySettings delaySettings = new JumpDelaySettings();
 
@@ -90,6 +144,31 @@ public class JumpSettings extends OkaeriConfig {
 
     }
 
+    @Comment({"#", "# Jump chain settings", "#"})
+    public JumpChainSettings chainSettings = new JumpChainSettings();
+
+    public static class JumpChainSettings extends OkaeriConfig {
+
+        @Comment({
+                "# Specifies whether players can chain several double jumps before landing, e.g. a triple jump",
+                "# The chain resets when the player lands"
+        })
+        public boolean enabled = false;
+
+        @Comment({
+                "# The velocity multiplier of each jump in the chain, the number of values is the number of jumps before landing",
+                "# Example: [1.0, 0.8, 0.6] - a triple jump, each jump weaker than the previous one"
+        })
+        public List<Double> stageMultipliers = List.of(1.0, 0.8, 0.6);
+
+        @Comment({
+                "# The delay between jumps in the chain",
+                "# The delay from delaySettings applies after the last jump of the chain"
+        })
+        public Duration stageDelay = Duration.ofMillis(250);
+
+    }
+
     @Comment({"#", "# Jump limit settings", "#"})
     public JumpLimitSettings limitSettings = new JumpLimitSettings();
 
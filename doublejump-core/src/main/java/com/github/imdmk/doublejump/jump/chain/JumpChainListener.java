@@ -0,0 +1,49 @@
+package com.github.imdmk.doublejump.jump.chain;
+
+import com.github.imdmk.doublejump.jump.ground.GroundStateTracker;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class JumpChainListener implements Listener {
+
+    private final JumpChainTracker chainTracker;
+    private final GroundStateTracker groundStateTracker;
+    private final HotPathTimer moveTimer;
+
+    public JumpChainListener(JumpChainTracker chainTracker, GroundStateTracker groundStateTracker, TimingRegistry timingRegistry) {
+        this.chainTracker = chainTracker;
+        this.groundStateTracker = groundStateTracker;
+        this.moveTimer = timingRegistry.timer("move: jump chain");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        long startNanos = this.moveTimer.start();
+
+        try {
+            Player player = event.getPlayer();
+
+            if (!this.chainTracker.isChaining(player.getUniqueId())) {
+                return;
+            }
+
+            if (this.groundStateTracker.isOnGround(player)) {
+                this.chainTracker.reset(player.getUniqueId());
+            }
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.chainTracker.reset(event.getPlayer().getUniqueId());
+    }
+}
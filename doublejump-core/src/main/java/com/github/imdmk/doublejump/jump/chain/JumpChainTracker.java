@@ -0,0 +1,35 @@
+package com.github.imdmk.doublejump.jump.chain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks the number of jumps players have made since they last landed.
+ * <p>
+ * Must only be accessed from the main server thread.
+ */
+public class JumpChainTracker {
+
+    private final Map<UUID, Integer> stages = new HashMap<>();
+
+    /**
+     * @param uuid the uuid of the player
+     * @return The number of jumps made since landing, which is the stage of the next jump
+     */
+    public int getStage(UUID uuid) {
+        return this.stages.getOrDefault(uuid, 0);
+    }
+
+    public boolean isChaining(UUID uuid) {
+        return this.stages.containsKey(uuid);
+    }
+
+    public void advance(UUID uuid) {
+        this.stages.merge(uuid, 1, Integer::sum);
+    }
+
+    public void reset(UUID uuid) {
+        this.stages.remove(uuid);
+    }
+}
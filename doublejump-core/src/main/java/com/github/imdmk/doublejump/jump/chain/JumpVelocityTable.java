@@ -0,0 +1,61 @@
+package com.github.imdmk.doublejump.jump.chain;
+
+import java.util.List;
+
+/**
+ * The jump multiplier and height of every jump in a chain, precomputed when the configuration is loaded.
+ */
+public final class JumpVelocityTable {
+
+    private static final List<Double> SINGLE_STAGE = List.of(1.0);
+
+    private final double[] stageMultipliers;
+    private final double[] jumpMultiples;
+    private final double[] jumpUps;
+
+    private JumpVelocityTable(double jumpMultiple, double jumpUp, List<Double> stageMultipliers) {
+        int stages = stageMultipliers.size();
+
+        this.stageMultipliers = new double[stages];
+        this.jumpMultiples = new double[stages];
+        this.jumpUps = new double[stages];
+
+        for (int stage = 0; stage < stages; stage++) {
+            double stageMultiplier = stageMultipliers.get(stage);
+
+            this.stageMultipliers[stage] = stageMultiplier;
+            this.jumpMultiples[stage] = jumpMultiple * stageMultiplier;
+            this.jumpUps[stage] = jumpUp * stageMultiplier;
+        }
+    }
+
+    /**
+     * @param jumpMultiple the jump multiplier of the first jump
+     * @param jumpUp the jump height of the first jump
+     * @param stageMultipliers the velocity multipliers of the jumps in the chain, a single jump if empty or chains are disabled
+     * @param chainsEnabled whether chains are enabled
+     * @return The compiled table
+     */
+    public static JumpVelocityTable compile(double jumpMultiple, double jumpUp, List<Double> stageMultipliers, boolean chainsEnabled) {
+        return new JumpVelocityTable(jumpMultiple, jumpUp, chainsEnabled && !stageMultipliers.isEmpty() ? stageMultipliers : SINGLE_STAGE);
+    }
+
+    /**
+     * @return The number of jumps in the chain
+     */
+    public int getStages() {
+        return this.stageMultipliers.length;
+    }
+
+    public double getStageMultiplier(int stage) {
+        return this.stageMultipliers[stage];
+    }
+
+    public double getJumpMultiple(int stage) {
+        return this.jumpMultiples[stage];
+    }
+
+    public double getJumpUp(int stage) {
+        return this.jumpUps[stage];
+    }
+}
@@ -11,17 +11,19 @@ import dev.rollczi.litecommands.annotations.execute.Execute;
 import dev.rollczi.litecommands.annotations.permission.Permission;
 import org.bukkit.entity.Player;
 
+import java.util.function.Supplier;
+
 @Command(name = "doublejump")
 @Permission("command.doublejump")
 public class DoubleJumpCommand {
 
-    private final JumpSettings jumpSettings;
+    private final Supplier<JumpSettings> jumpSettings;
     private final NotificationSender notificationSender;
     private final JumpPlayerManager jumpPlayerManager;
     private final JumpPlayerService jumpPlayerService;
     private final JumpRestrictionService jumpRestrictionService;
 
-    public DoubleJumpCommand(JumpSettings jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpRestrictionService jumpRestrictionService) {
+    public DoubleJumpCommand(Supplier<JumpSettings> jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpRestrictionService jumpRestrictionService) {
         this.jumpSettings = jumpSettings;
         this.notificationSender = notificationSender;
         this.jumpPlayerManager = jumpPlayerManager;
@@ -37,11 +39,11 @@ public class DoubleJumpCommand {
 
         if (this.jumpPlayerManager.isDoubleJumpMode(player)) {
             this.jumpPlayerService.disable(player);
-            this.notificationSender.send(player, this.jumpSettings.notificationSettings.jumpModeDisabled);
+            this.notificationSender.send(player, this.jumpSettings.get().notificationSettings.jumpModeDisabled);
         }
         else {
             this.jumpPlayerService.enable(player, true);
-            this.notificationSender.send(player, this.jumpSettings.notificationSettings.jumpModeEnabled);
+            this.notificationSender.send(player, this.jumpSettings.get().notificationSettings.jumpModeEnabled);
         }
     }
 }
@@ -12,15 +12,17 @@ import dev.rollczi.litecommands.annotations.permission.Permission;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.function.Supplier;
+
 @Command(name = "doublejump for")
 @Permission("command.doublejump.for")
 public class DoubleJumpForCommand {
 
-    private final JumpSettings jumpSettings;
+    private final Supplier<JumpSettings> jumpSettings;
     private final NotificationSender notificationSender;
     private final JumpPlayerService jumpPlayerService;
 
-    public DoubleJumpForCommand(JumpSettings jumpSettings, NotificationSender notificationSender, JumpPlayerService jumpPlayerService) {
+    public DoubleJumpForCommand(Supplier<JumpSettings> jumpSettings, NotificationSender notificationSender, JumpPlayerService jumpPlayerService) {
         this.jumpSettings = jumpSettings;
         this.notificationSender = notificationSender;
         this.jumpPlayerService = jumpPlayerService;
@@ -33,7 +35,7 @@ public class DoubleJumpForCommand {
         Formatter formatter = new Formatter()
                 .placeholder("{PLAYER}", target.getName());
 
-        this.notificationSender.send(sender, this.jumpSettings.notificationSettings.jumpModeEnabledFor, formatter);
+        this.notificationSender.send(sender, this.jumpSettings.get().notificationSettings.jumpModeEnabledFor, formatter);
     }
 
     @Execute(name = "disable")
@@ -43,6 +45,6 @@ public class DoubleJumpForCommand {
         Formatter formatter = new Formatter()
                 .placeholder("{PLAYER}", target.getName());
 
-        this.notificationSender.send(sender, this.jumpSettings.notificationSettings.jumpModeDisabledFor, formatter);
+        this.notificationSender.send(sender, this.jumpSettings.get().notificationSettings.jumpModeDisabledFor, formatter);
     }
 }
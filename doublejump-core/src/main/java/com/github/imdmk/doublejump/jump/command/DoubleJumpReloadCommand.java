@@ -1,8 +1,9 @@
 package com.github.imdmk.doublejump.jump.command;
 
 import com.github.imdmk.doublejump.configuration.ConfigurationService;
+import com.github.imdmk.doublejump.configuration.RuntimeConfiguration;
 import com.github.imdmk.doublejump.notification.NotificationSender;
-import com.github.imdmk.doublejump.notification.configuration.NotificationSettings;
+import com.github.imdmk.doublejump.scheduler.TaskScheduler;
 import dev.rollczi.litecommands.annotations.async.Async;
 import dev.rollczi.litecommands.annotations.command.Command;
 import dev.rollczi.litecommands.annotations.context.Context;
@@ -14,20 +15,24 @@ import org.bukkit.command.CommandSender;
 @Permission("command.doublejump.reload")
 public class DoubleJumpReloadCommand {
 
-    private final NotificationSettings notificationSettings;
     private final NotificationSender notificationSender;
     private final ConfigurationService configurationService;
+    private final TaskScheduler taskScheduler;
 
-    public DoubleJumpReloadCommand(NotificationSettings notificationSettings, NotificationSender notificationSender, ConfigurationService configurationService) {
-        this.notificationSettings = notificationSettings;
+    public DoubleJumpReloadCommand(NotificationSender notificationSender, ConfigurationService configurationService, TaskScheduler taskScheduler) {
         this.notificationSender = notificationSender;
         this.configurationService = configurationService;
+        this.taskScheduler = taskScheduler;
     }
 
     @Async
     @Execute
     void execute(@Context CommandSender sender) {
-        this.configurationService.reload();
-        this.notificationSender.send(sender, this.notificationSettings.configurationReloaded);
+        RuntimeConfiguration configuration = this.configurationService.load();
+
+        this.taskScheduler.runLater(() -> {
+            this.configurationService.publish(configuration);
+            this.notificationSender.send(sender, configuration.notificationSettings().configurationReloaded);
+        }, 0L);
     }
 }
@@ -0,0 +1,203 @@
+package com.github.imdmk.doublejump.jump.effect;
+
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.Server;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Scales jump effects down when the server is under load and restores them when the load falls.
+ * <p>
+ * The tick duration is taken from Paper's average tick time when available.
+ * Otherwise, the smoothed interval between ticks is compared with separate interval thresholds,
+ * the interval stays at 50ms until ticks exceed their budget, so it cannot be compared with the tick duration thresholds.
+ * Must be scheduled to run every tick on the main thread.
+ */
+public class EffectGovernor implements Runnable, StatsProvider {
+
+    private static final double TICK_INTERVAL_MILLIS = 50.0;
+    private static final double SMOOTHING_FACTOR = 0.1;
+
+    private final Logger logger;
+    private final Supplier<EffectSettings> effectSettings;
+    private final MethodHandle averageTickTimeHandle;
+
+    private final LongAdder particlesShed = new LongAdder();
+    private final LongAdder nearbySoundsShed = new LongAdder();
+    private final LongAdder notificationsShed = new LongAdder();
+    private final LongAdder qualityChanges = new LongAdder();
+
+    private volatile EffectQuality quality = EffectQuality.FULL;
+    private volatile double tickDuration;
+
+    private long lastTickNanos;
+    private double smoothedTickInterval = TICK_INTERVAL_MILLIS;
+    private int ticksUntilEvaluation;
+
+    public EffectGovernor(Logger logger, Server server, Supplier<EffectSettings> effectSettings) {
+        this.logger = logger;
+        this.effectSettings = effectSettings;
+        this.averageTickTimeHandle = this.findAverageTickTimeHandle(server);
+    }
+
+    @Override
+    public void run() {
+        if (this.averageTickTimeHandle == null) {
+            this.sampleTickInterval();
+        }
+
+        if (--this.ticksUntilEvaluation > 0) {
+            return;
+        }
+
+        EffectSettings effectSettings = this.effectSettings.get();
+        this.ticksUntilEvaluation = Math.max(1, effectSettings.sampleInterval);
+
+        if (!effectSettings.enabled) {
+            this.changeQuality(EffectQuality.FULL);
+            return;
+        }
+
+        if (this.averageTickTimeHandle == null) {
+            this.tickDuration = this.smoothedTickInterval;
+            this.changeQuality(this.evaluateQuality(this.tickDuration, effectSettings.reducedIntervalThreshold, effectSettings.minimalIntervalThreshold));
+            return;
+        }
+
+        this.tickDuration = this.readAverageTickTime();
+        this.changeQuality(this.evaluateQuality(this.tickDuration, effectSettings.reducedThreshold, effectSettings.minimalThreshold));
+    }
+
+    public EffectQuality getQuality() {
+        return this.quality;
+    }
+
+    /**
+     * @return The part of configured particles which should be spawned at the current quality
+     */
+    public double getParticleScale() {
+        return switch (this.quality) {
+            case FULL -> 1.0;
+            case REDUCED -> this.effectSettings.get().reducedParticleScale;
+            case MINIMAL -> this.effectSettings.get().minimalParticleScale;
+        };
+    }
+
+    public boolean isNearbySoundsAllowed() {
+        return this.quality == EffectQuality.FULL;
+    }
+
+    public boolean isCosmeticNotificationsAllowed() {
+        return this.quality != EffectQuality.MINIMAL;
+    }
+
+    public void recordParticlesShed(int count) {
+        if (count > 0) {
+            this.particlesShed.add(count);
+        }
+    }
+
+    public void recordNearbySoundShed() {
+        this.nearbySoundsShed.increment();
+    }
+
+    public void recordNotificationShed() {
+        this.notificationsShed.increment();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Effect governor";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", this.effectSettings.get().enabled);
+        stats.put("quality", this.quality);
+        stats.put("tick duration", String.format("%.1fms", this.tickDuration));
+        stats.put("tick duration source", this.averageTickTimeHandle == null ? "tick interval" : "average tick time");
+        stats.put("particles shed", this.particlesShed.sum());
+        stats.put("nearby sounds shed", this.nearbySoundsShed.sum());
+        stats.put("notifications shed", this.notificationsShed.sum());
+        stats.put("quality changes", this.qualityChanges.sum());
+        return stats;
+    }
+
+    private EffectQuality evaluateQuality(double tickDuration, double reducedThreshold, double minimalThreshold) {
+        double recoveryMargin = this.effectSettings.get().recoveryMargin;
+
+        return switch (this.quality) {
+            case FULL -> {
+                if (tickDuration >= minimalThreshold) {
+                    yield EffectQuality.MINIMAL;
+                }
+
+                yield tickDuration >= reducedThreshold ? EffectQuality.REDUCED : EffectQuality.FULL;
+            }
+            case REDUCED -> {
+                if (tickDuration >= minimalThreshold) {
+                    yield EffectQuality.MINIMAL;
+                }
+
+                yield tickDuration < reducedThreshold - recoveryMargin ? EffectQuality.FULL : EffectQuality.REDUCED;
+            }
+            case MINIMAL -> {
+                if (tickDuration >= minimalThreshold - recoveryMargin) {
+                    yield EffectQuality.MINIMAL;
+                }
+
+                yield tickDuration < reducedThreshold - recoveryMargin ? EffectQuality.FULL : EffectQuality.REDUCED;
+            }
+        };
+    }
+
+    private void changeQuality(EffectQuality newQuality) {
+        if (this.quality == newQuality) {
+            return;
+        }
+
+        this.quality = newQuality;
+        this.qualityChanges.increment();
+
+        this.logger.info(String.format("Jump effect quality changed to %s (tick duration %.1fms).", newQuality, this.tickDuration));
+    }
+
+    private void sampleTickInterval() {
+        long now = System.nanoTime();
+
+        if (this.lastTickNanos != 0) {
+            double interval = (now - this.lastTickNanos) / 1_000_000.0;
+            this.smoothedTickInterval += (interval - this.smoothedTickInterval) * SMOOTHING_FACTOR;
+        }
+
+        this.lastTickNanos = now;
+    }
+
+    private double readAverageTickTime() {
+        try {
+            return (double) this.averageTickTimeHandle.invokeExact();
+        }
+        catch (Throwable throwable) {
+            return this.smoothedTickInterval;
+        }
+    }
+
+    private MethodHandle findAverageTickTimeHandle(Server server) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(Server.class, "getAverageTickTime", MethodType.methodType(double.class))
+                    .bindTo(server);
+        }
+        catch (NoSuchMethodException | IllegalAccessException ignored) {
+            return null;
+        }
+    }
+}
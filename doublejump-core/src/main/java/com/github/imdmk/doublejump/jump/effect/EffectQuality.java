@@ -0,0 +1,23 @@
+package com.github.imdmk.doublejump.jump.effect;
+
+/**
+ * Quality levels of jump effects, ordered from the richest to the cheapest.
+ */
+public enum EffectQuality {
+
+    /**
+     * All configured effects are played.
+     */
+    FULL,
+
+    /**
+     * Particle counts are lowered and nearby players no longer hear the jump sound.
+     */
+    REDUCED,
+
+    /**
+     * Particle counts are lowered further, nearby sounds are skipped and cosmetic notifications are dropped.
+     */
+    MINIMAL
+
+}
@@ -0,0 +1,174 @@
+package com.github.imdmk.doublejump.jump.effect;
+
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Spends a per-tick packet budget on cosmetic jump effects.
+ * <p>
+ * Effects run immediately while there is no backlog and the budget of the current tick allows it.
+ * Otherwise, they are queued per player and drained round-robin on the following ticks, one effect per player per round,
+ * so a single player cannot starve the others. Effects still queued after their deadline are dropped.
+ * <p>
+ * Must be scheduled to run every tick and only be accessed from the main server thread.
+ */
+public class EffectScheduler implements Runnable, StatsProvider {
+
+    private final Supplier<EffectSettings> effectSettings;
+
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+    private final ArrayDeque<PlayerQueue> rotation = new ArrayDeque<>();
+
+    private final LongAdder executedEffects = new LongAdder();
+    private final LongAdder deferredEffects = new LongAdder();
+    private final LongAdder droppedEffects = new LongAdder();
+    private final LongAdder sentPackets = new LongAdder();
+    private final LongAdder exhaustedTicks = new LongAdder();
+
+    private volatile int queuedEffects;
+
+    private long currentTick;
+    private int remainingBudget;
+
+    public EffectScheduler(Supplier<EffectSettings> effectSettings) {
+        this.effectSettings = effectSettings;
+        this.remainingBudget = effectSettings.get().packetBudget;
+    }
+
+    /**
+     * Runs the effect now if the budget allows it, otherwise queues it for the player.
+     *
+     * @param player the player the effect belongs to
+     * @param packets the estimated number of packets the effect sends
+     * @param effect the effect to run
+     */
+    public void submit(Player player, int packets, Runnable effect) {
+        int cost = Math.max(1, packets);
+
+        if (!this.effectSettings.get().schedulerEnabled || (this.rotation.isEmpty() && cost <= this.remainingBudget)) {
+            this.execute(effect, cost);
+            return;
+        }
+
+        PlayerQueue queue = this.queues.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerQueue(player));
+        if (queue.effects.isEmpty()) {
+            this.rotation.addLast(queue);
+        }
+
+        queue.effects.addLast(new ScheduledEffect(effect, cost, this.currentTick + this.effectSettings.get().maxDelayTicks));
+
+        this.queuedEffects++;
+        this.deferredEffects.increment();
+    }
+
+    @Override
+    public void run() {
+        this.currentTick++;
+
+        int packetBudget = this.effectSettings.get().packetBudget;
+        this.remainingBudget = packetBudget;
+
+        while (!this.rotation.isEmpty()) {
+            PlayerQueue queue = this.rotation.peekFirst();
+
+            if (!queue.player.isOnline()) {
+                this.dropQueue(queue);
+                continue;
+            }
+
+            ScheduledEffect effect = queue.effects.peekFirst();
+
+            if (effect.deadlineTick() < this.currentTick) {
+                queue.effects.pollFirst();
+
+                this.queuedEffects--;
+                this.droppedEffects.increment();
+
+                if (queue.effects.isEmpty()) {
+                    this.rotation.pollFirst();
+                    this.queues.remove(queue.player.getUniqueId());
+                }
+
+                continue;
+            }
+
+            // An effect larger than the whole budget may still run as the first one of a tick, so it cannot block the queue forever
+            if (effect.packets() > this.remainingBudget && this.remainingBudget < packetBudget) {
+                this.exhaustedTicks.increment();
+                break;
+            }
+
+            this.rotation.pollFirst();
+            queue.effects.pollFirst();
+            this.queuedEffects--;
+
+            this.execute(effect.effect(), effect.packets());
+
+            if (queue.effects.isEmpty()) {
+                this.queues.remove(queue.player.getUniqueId());
+            }
+            else {
+                this.rotation.addLast(queue);
+            }
+        }
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Effect scheduler";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", this.effectSettings.get().schedulerEnabled);
+        stats.put("packet budget", this.effectSettings.get().packetBudget);
+        stats.put("queued effects", this.queuedEffects);
+        stats.put("executed effects", this.executedEffects.sum());
+        stats.put("deferred effects", this.deferredEffects.sum());
+        stats.put("dropped effects", this.droppedEffects.sum());
+        stats.put("sent packets", this.sentPackets.sum());
+        stats.put("budget exhausted ticks", this.exhaustedTicks.sum());
+        return stats;
+    }
+
+    private void execute(Runnable effect, int packets) {
+        this.remainingBudget -= packets;
+
+        effect.run();
+
+        this.executedEffects.increment();
+        this.sentPackets.add(packets);
+    }
+
+    private void dropQueue(PlayerQueue queue) {
+        int size = queue.effects.size();
+
+        this.rotation.pollFirst();
+        this.queues.remove(queue.player.getUniqueId());
+
+        this.queuedEffects -= size;
+        this.droppedEffects.add(size);
+    }
+
+    private record ScheduledEffect(Runnable effect, int packets, long deadlineTick) {
+    }
+
+    private static class PlayerQueue {
+
+        private final Player player;
+        private final ArrayDeque<ScheduledEffect> effects = new ArrayDeque<>();
+
+        PlayerQueue(Player player) {
+            this.player = player;
+        }
+    }
+}
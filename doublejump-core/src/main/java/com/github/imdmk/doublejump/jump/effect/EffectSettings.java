@@ -0,0 +1,71 @@
+package com.github.imdmk.doublejump.jump.effect;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Comment;
+
+public class EffectSettings extends OkaeriConfig {
+
+    @Comment({
+            "# Specifies whether jump effects should be scaled down when the server is under load",
+            "# On Paper the average tick time is compared with the tick duration thresholds, on other platforms the measured interval between ticks with the interval thresholds"
+    })
+    public boolean enabled = true;
+
+    @Comment("# Specifies how often (in ticks) the server load is evaluated")
+    public int sampleInterval = 20;
+
+    @Comment("# Tick duration in milliseconds from which effects are reduced")
+    public double reducedThreshold = 40.0;
+
+    @Comment("# Tick duration in milliseconds from which effects are reduced to the minimum")
+    public double minimalThreshold = 48.0;
+
+    @Comment({
+            "# Interval between ticks in milliseconds from which effects are reduced, used instead of reducedThreshold on platforms without the average tick time (Spigot)",
+            "# A healthy server ticks every 50ms, keep it above 50 plus the recovery margin, the default is about 17 TPS"
+    })
+    public double reducedIntervalThreshold = 58.0;
+
+    @Comment({
+            "# Interval between ticks in milliseconds from which effects are reduced to the minimum, used instead of minimalThreshold on platforms without the average tick time (Spigot)",
+            "# The default is about 15 TPS"
+    })
+    public double minimalIntervalThreshold = 65.0;
+
+    @Comment({
+            "# How many milliseconds the tick duration must fall below a threshold before effects are restored",
+            "# Prevents the quality from flapping around a threshold"
+    })
+    public double recoveryMargin = 5.0;
+
+    @Comment("# The part of particles spawned when effects are reduced (0.0 - 1.0)")
+    public double reducedParticleScale = 0.5;
+
+    @Comment("# The part of particles spawned when effects are reduced to the minimum (0.0 - 1.0)")
+    public double minimalParticleScale = 0.2;
+
+    @Comment({
+            "# Specifies whether particle and sound packets should be spread over ticks",
+            "# When many players jump in the same tick, effects above the budget are queued and sent round-robin on the next ticks"
+    })
+    public boolean schedulerEnabled = true;
+
+    @Comment("# The maximum number of effect packets sent in one tick")
+    public int packetBudget = 400;
+
+    @Comment("# The maximum number of ticks an effect may wait in the queue before it is dropped")
+    public int maxDelayTicks = 10;
+
+    @Comment({
+            "# The distance in blocks within which other players see the jump particles",
+            "# Set to 0 to show particles only to the jumping player, larger values send more particle packets"
+    })
+    public double particleViewerDistance = 0;
+
+    @Comment({
+            "# Specifies whether effects are only sent to players whose client view distance covers the jump",
+            "# Players who cannot see the jumping player (vanished, hidden) never receive its effects"
+    })
+    public boolean respectClientViewDistance = true;
+
+}
@@ -0,0 +1,155 @@
+package com.github.imdmk.doublejump.jump.effect;
+
+import com.github.imdmk.doublejump.grid.PlayerGrid;
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Resolves which players should receive the effects of a jump.
+ * <p>
+ * A viewer must be in the same world, within the requested radius and the client view distance,
+ * and must be able to see the jumping player (vanished and hidden players are respected).
+ * Candidates are looked up once per chunk section per tick and shared by all jumps in that section,
+ * only the exact distance and visibility are checked per jump.
+ * <p>
+ * Must only be accessed from the main server thread.
+ */
+public class EffectViewerResolver implements StatsProvider {
+
+    private static final double SECTION_HALF_DIAGONAL = Math.sqrt(3 * 8 * 8);
+
+    private final Supplier<EffectSettings> effectSettings;
+    private final PlayerGrid playerGrid;
+    private final TickClock tickClock;
+
+    private final Map<SectionKey, List<Player>> sectionCandidates = new HashMap<>();
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder resolvedViewers = new LongAdder();
+    private final LongAdder culledViewers = new LongAdder();
+
+    private long cachedTick = -1;
+
+    public EffectViewerResolver(Supplier<EffectSettings> effectSettings, PlayerGrid playerGrid, TickClock tickClock) {
+        this.effectSettings = effectSettings;
+        this.playerGrid = playerGrid;
+        this.tickClock = tickClock;
+    }
+
+    /**
+     * Resolves the viewers of an effect played at the source player.
+     *
+     * @param source the jumping player
+     * @param radius the maximum distance of viewers in blocks
+     * @return the viewers, the source player is always the first one
+     */
+    public List<Player> resolve(Player source, double radius) {
+        List<Player> viewers = new ArrayList<>();
+        viewers.add(source);
+
+        Location location = source.getLocation();
+        World world = location.getWorld();
+
+        if (radius <= 0 || world == null) {
+            return viewers;
+        }
+
+        long currentTick = this.tickClock.getCurrentTick();
+        if (currentTick != this.cachedTick) {
+            this.sectionCandidates.clear();
+            this.cachedTick = currentTick;
+        }
+
+        SectionKey sectionKey = new SectionKey(world.getUID(), location.getBlockX() >> 4, location.getBlockY() >> 4, location.getBlockZ() >> 4, radius);
+
+        List<Player> candidates = this.sectionCandidates.get(sectionKey);
+        if (candidates == null) {
+            this.cacheMisses.increment();
+
+            candidates = this.findSectionCandidates(world, sectionKey);
+            this.sectionCandidates.put(sectionKey, candidates);
+        }
+        else {
+            this.cacheHits.increment();
+        }
+
+        for (Player candidate : candidates) {
+            if (candidate.equals(source)) {
+                continue;
+            }
+
+            if (this.isViewer(candidate, source, location, radius)) {
+                viewers.add(candidate);
+                this.resolvedViewers.increment();
+            }
+            else {
+                this.culledViewers.increment();
+            }
+        }
+
+        return viewers;
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Effect viewers";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("section cache hits", this.cacheHits.sum());
+        stats.put("section cache misses", this.cacheMisses.sum());
+        stats.put("resolved viewers", this.resolvedViewers.sum());
+        stats.put("culled viewers", this.culledViewers.sum());
+        return stats;
+    }
+
+    private List<Player> findSectionCandidates(World world, SectionKey sectionKey) {
+        Location sectionCenter = new Location(
+                world,
+                (sectionKey.x() << 4) + 8,
+                (sectionKey.y() << 4) + 8,
+                (sectionKey.z() << 4) + 8
+        );
+
+        return this.playerGrid.getNearbyPlayers(sectionCenter, sectionKey.radius() + SECTION_HALF_DIAGONAL);
+    }
+
+    private boolean isViewer(Player viewer, Player source, Location sourceLocation, double radius) {
+        Location viewerLocation = viewer.getLocation(this.scratchLocation);
+
+        double maxDistance = radius;
+        if (this.effectSettings.get().respectClientViewDistance) {
+            int viewDistanceChunks = Math.min(viewer.getClientViewDistance(), sourceLocation.getWorld().getViewDistance());
+            maxDistance = Math.min(maxDistance, viewDistanceChunks * 16);
+        }
+
+        double distanceX = viewerLocation.getX() - sourceLocation.getX();
+        double distanceY = viewerLocation.getY() - sourceLocation.getY();
+        double distanceZ = viewerLocation.getZ() - sourceLocation.getZ();
+
+        if (distanceX * distanceX + distanceY * distanceY + distanceZ * distanceZ > maxDistance * maxDistance) {
+            return false;
+        }
+
+        return viewer.canSee(source);
+    }
+
+    private record SectionKey(UUID worldId, int x, int y, int z, double radius) {
+    }
+}
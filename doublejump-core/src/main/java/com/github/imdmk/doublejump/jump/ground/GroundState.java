@@ -0,0 +1,91 @@
+package com.github.imdmk.doublejump.jump.ground;
+
+import org.bukkit.Material;
+
+import java.util.UUID;
+
+/**
+ * The ground state of a player, updated by {@link GroundStateTracker} on every movement.
+ */
+public final class GroundState {
+
+    private UUID worldId;
+    private int minBlockX;
+    private int maxBlockX;
+    private int blockY;
+    private int minBlockZ;
+    private int maxBlockZ;
+
+    private double supportY = Double.NaN;
+    private Material blockBelow = Material.AIR;
+
+    private boolean onGround;
+    private long lastLandingTick = -1;
+
+    GroundState() {
+    }
+
+    /**
+     * @return Whether the player stands on the collision shape of a block
+     */
+    public boolean isOnGround() {
+        return this.onGround;
+    }
+
+    /**
+     * @return The type of the block the player stands on or falls towards, air if there is none within a block
+     */
+    public Material getBlockBelow() {
+        return this.blockBelow;
+    }
+
+    /**
+     * @return The tick the player last landed at, -1 if the player has not landed since it is tracked
+     */
+    public long getLastLandingTick() {
+        return this.lastLandingTick;
+    }
+
+    boolean isSameFootprint(UUID worldId, int minBlockX, int maxBlockX, int blockY, int minBlockZ, int maxBlockZ) {
+        return this.minBlockX == minBlockX && this.maxBlockX == maxBlockX && this.blockY == blockY
+                && this.minBlockZ == minBlockZ && this.maxBlockZ == maxBlockZ && worldId.equals(this.worldId);
+    }
+
+    /**
+     * @return Whether the block is one of the blocks the support height was read from
+     */
+    boolean isSupportedBy(UUID worldId, int blockX, int blockY, int blockZ) {
+        return blockX >= this.minBlockX && blockX <= this.maxBlockX && blockZ >= this.minBlockZ && blockZ <= this.maxBlockZ
+                && (blockY == this.blockY || blockY == this.blockY - 1) && worldId.equals(this.worldId);
+    }
+
+    void setFootprint(UUID worldId, int minBlockX, int maxBlockX, int blockY, int minBlockZ, int maxBlockZ, double supportY, Material blockBelow) {
+        this.worldId = worldId;
+        this.minBlockX = minBlockX;
+        this.maxBlockX = maxBlockX;
+        this.blockY = blockY;
+        this.minBlockZ = minBlockZ;
+        this.maxBlockZ = maxBlockZ;
+        this.supportY = supportY;
+        this.blockBelow = blockBelow;
+    }
+
+    /**
+     * Forces the support height to be read again on the next movement.
+     */
+    void invalidate() {
+        this.worldId = null;
+    }
+
+    double getSupportY() {
+        return this.supportY;
+    }
+
+    void setOnGround(boolean onGround, long currentTick) {
+        if (onGround && !this.onGround) {
+            this.lastLandingTick = currentTick;
+        }
+
+        this.onGround = onGround;
+    }
+}
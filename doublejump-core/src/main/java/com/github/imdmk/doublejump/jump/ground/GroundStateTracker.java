@@ -0,0 +1,188 @@
+package com.github.imdmk.doublejump.jump.ground;
+
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks whether players stand on the ground.
+ * <p>
+ * The blocks are read only when the blocks under the footprint of a player change, either because the player moved
+ * to other blocks or because one of them was changed. The height the player would stand at is the highest top of the
+ * collision shapes of the blocks at the feet and the blocks below in every column the bounding box of the player covers,
+ * so slabs, stairs, fences and block edges are supported and blocks without collision, e.g. light blocks, are not ground.
+ * Other movements only compare the height of the player with it.
+ * <p>
+ * Must only be accessed from the main server thread.
+ */
+public class GroundStateTracker implements StatsProvider {
+
+    private static final double GROUND_EPSILON = 1.0E-3;
+    private static final double PLAYER_HALF_WIDTH = 0.3;
+
+    private final TickClock tickClock;
+
+    private final Map<UUID, GroundState> states = new HashMap<>();
+
+    private final LongAdder blockUpdates = new LongAdder();
+    private final LongAdder heightUpdates = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public GroundStateTracker(TickClock tickClock) {
+        this.tickClock = tickClock;
+    }
+
+    /**
+     * @param player the player
+     * @return The ground state of the player, computed from the current location if the player is not tracked yet
+     */
+    public GroundState getState(Player player) {
+        GroundState state = this.states.get(player.getUniqueId());
+        if (state == null) {
+            state = this.update(player, player.getLocation());
+        }
+
+        return state;
+    }
+
+    public boolean isOnGround(Player player) {
+        return this.getState(player).isOnGround();
+    }
+
+    /**
+     * Updates the ground state of the player moving to the location.
+     *
+     * @param player the player
+     * @param location the new location of the player
+     * @return The updated ground state
+     */
+    public GroundState update(Player player, Location location) {
+        GroundState state = this.states.computeIfAbsent(player.getUniqueId(), uuid -> new GroundState());
+
+        World world = location.getWorld();
+        if (world == null) {
+            return state;
+        }
+
+        // Columns the bounding box only touches are not covered by it
+        int minBlockX = (int) Math.floor(location.getX() - PLAYER_HALF_WIDTH + GROUND_EPSILON);
+        int maxBlockX = (int) Math.floor(location.getX() + PLAYER_HALF_WIDTH - GROUND_EPSILON);
+        int blockY = location.getBlockY();
+        int minBlockZ = (int) Math.floor(location.getZ() - PLAYER_HALF_WIDTH + GROUND_EPSILON);
+        int maxBlockZ = (int) Math.floor(location.getZ() + PLAYER_HALF_WIDTH - GROUND_EPSILON);
+
+        if (state.isSameFootprint(world.getUID(), minBlockX, maxBlockX, blockY, minBlockZ, maxBlockZ)) {
+            this.heightUpdates.increment();
+        }
+        else {
+            this.blockUpdates.increment();
+            this.updateFootprint(state, world, minBlockX, maxBlockX, blockY, minBlockZ, maxBlockZ, location.getY());
+        }
+
+        double supportY = state.getSupportY();
+        state.setOnGround(!Double.isNaN(supportY) && Math.abs(location.getY() - supportY) <= GROUND_EPSILON, this.tickClock.getCurrentTick());
+
+        return state;
+    }
+
+    /**
+     * Invalidates the support height of players standing on or above the block, so it is read again on their next movement.
+     *
+     * @param block the changed block
+     */
+    public void invalidate(Block block) {
+        UUID worldId = block.getWorld().getUID();
+
+        for (GroundState state : this.states.values()) {
+            if (state.isSupportedBy(worldId, block.getX(), block.getY(), block.getZ())) {
+                state.invalidate();
+                this.invalidations.increment();
+            }
+        }
+    }
+
+    public void remove(UUID uuid) {
+        this.states.remove(uuid);
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Ground state tracker";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tracked players", this.states.size());
+        stats.put("block updates", this.blockUpdates.sum());
+        stats.put("height updates", this.heightUpdates.sum());
+        stats.put("invalidations", this.invalidations.sum());
+        return stats;
+    }
+
+    private void updateFootprint(GroundState state, World world, int minBlockX, int maxBlockX, int blockY, int minBlockZ, int maxBlockZ, double y) {
+        double supportY = Double.NaN;
+        Material blockBelow = Material.AIR;
+
+        for (int blockX = minBlockX; blockX <= maxBlockX; blockX++) {
+            for (int blockZ = minBlockZ; blockZ <= maxBlockZ; blockZ++) {
+                Block feetBlock = world.getBlockAt(blockX, blockY, blockZ);
+
+                // The block at the feet supports the player on e.g. a bottom slab, the block below may reach above its own top, e.g. a fence
+                double feetTop = getHighestTop(feetBlock, y - blockY);
+                if (!Double.isNaN(feetTop)) {
+                    if (Double.isNaN(supportY) || blockY + feetTop > supportY) {
+                        supportY = blockY + feetTop;
+                        blockBelow = feetBlock.getType();
+                    }
+
+                    continue;
+                }
+
+                Block belowBlock = feetBlock.getRelative(0, -1, 0);
+
+                double belowTop = getHighestTop(belowBlock, y - blockY + 1);
+                if (!Double.isNaN(belowTop) && (Double.isNaN(supportY) || blockY - 1 + belowTop > supportY)) {
+                    supportY = blockY - 1 + belowTop;
+                    blockBelow = belowBlock.getType();
+                }
+            }
+        }
+
+        state.setFootprint(world.getUID(), minBlockX, maxBlockX, blockY, minBlockZ, maxBlockZ, supportY, blockBelow);
+    }
+
+    /**
+     * @param block the block
+     * @param maxTop the height relative to the block the top must not exceed
+     * @return The highest top of the collision shape of the block below the height, relative to the block, NaN if there is none
+     */
+    private static double getHighestTop(Block block, double maxTop) {
+        if (block.isPassable()) {
+            return Double.NaN;
+        }
+
+        double highestTop = Double.NaN;
+
+        for (BoundingBox boundingBox : block.getCollisionShape().getBoundingBoxes()) {
+            double top = boundingBox.getMaxY();
+
+            if (top <= maxTop + GROUND_EPSILON && (Double.isNaN(highestTop) || top > highestTop)) {
+                highestTop = top;
+            }
+        }
+
+        return highestTop;
+    }
+}
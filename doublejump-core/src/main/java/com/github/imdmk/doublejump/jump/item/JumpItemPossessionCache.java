@@ -0,0 +1,131 @@
+package com.github.imdmk.doublejump.jump.item;
+
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the jump item profile players use correctly, so the move path only reads a cached value.
+ * <p>
+ * Inventory events fire before the inventory changes, so they only mark the player as dirty
+ * and the state is recomputed on the next tick. A periodic reconciliation marks every cached player as dirty
+ * to catch changes that did not go through a tracked event (e.g. other plugins modifying inventories).
+ * <p>
+ * Must be scheduled to run every tick and only be accessed from the main server thread.
+ */
+public class JumpItemPossessionCache implements Runnable, StatsProvider {
+
+    private final Server server;
+    private final JumpItemService jumpItemService;
+
+    private final Map<UUID, Optional<JumpItemProfile>> possessions = new HashMap<>();
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
+
+    private final LongAdder recomputations = new LongAdder();
+    private final LongAdder reconciliations = new LongAdder();
+    private final LongAdder reconciliationCorrections = new LongAdder();
+
+    private boolean reconciling;
+
+    public JumpItemPossessionCache(Server server, JumpItemService jumpItemService) {
+        this.server = server;
+        this.jumpItemService = jumpItemService;
+    }
+
+    /**
+     * Returns the cached active profile, the profile is resolved when the player is not cached yet.
+     *
+     * @param player the player to check
+     * @return the profile of the jump item the player uses correctly
+     */
+    public Optional<JumpItemProfile> getActiveProfile(Player player) {
+        Optional<JumpItemProfile> possession = this.possessions.get(player.getUniqueId());
+        if (possession != null) {
+            return possession;
+        }
+
+        return this.recompute(player);
+    }
+
+    public boolean isCorrectlyUsed(Player player) {
+        return this.getActiveProfile(player).isPresent();
+    }
+
+    public void markDirty(Player player) {
+        this.dirtyPlayers.add(player.getUniqueId());
+    }
+
+    public void invalidate(Player player) {
+        this.possessions.remove(player.getUniqueId());
+        this.dirtyPlayers.remove(player.getUniqueId());
+    }
+
+    /**
+     * Marks every cached player as dirty, so missed transitions are corrected on the next tick.
+     */
+    public void reconcile() {
+        this.dirtyPlayers.addAll(this.possessions.keySet());
+        this.reconciling = true;
+        this.reconciliations.increment();
+    }
+
+    @Override
+    public void run() {
+        if (this.dirtyPlayers.isEmpty()) {
+            return;
+        }
+
+        for (UUID uuid : this.dirtyPlayers) {
+            Player player = this.server.getPlayer(uuid);
+
+            if (player == null) {
+                this.possessions.remove(uuid);
+                continue;
+            }
+
+            Optional<JumpItemProfile> previousPossession = this.possessions.get(uuid);
+            Optional<JumpItemProfile> possession = this.recompute(player);
+
+            if (this.reconciling && previousPossession != null && !previousPossession.equals(possession)) {
+                this.reconciliationCorrections.increment();
+            }
+        }
+
+        this.dirtyPlayers.clear();
+        this.reconciling = false;
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Jump item possession";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cached players", this.possessions.size());
+        stats.put("recomputations", this.recomputations.sum());
+        stats.put("reconciliations", this.reconciliations.sum());
+        stats.put("reconciliation corrections", this.reconciliationCorrections.sum());
+        return stats;
+    }
+
+    private Optional<JumpItemProfile> recompute(Player player) {
+        Optional<JumpItemProfile> possession = this.jumpItemService.resolveActiveProfile(player);
+
+        this.possessions.put(player.getUniqueId(), possession);
+        this.recomputations.increment();
+
+        return possession;
+    }
+}
@@ -1,115 +1,248 @@
 package com.github.imdmk.doublejump.jump.item;
 
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfileIndex;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class JumpItemService {
 
-    private final ItemStack jumpItem;
-    private final JumpItemUsage jumpItemUsage;
+    private final NamespacedKey jumpItemKey;
+    private final NamespacedKey jumpItemProfileKey;
 
-    private final boolean ignoreEnchants;
-    private final boolean ignoreDurability;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
+    private final Supplier<JumpItemProfileIndex> profileIndex;
 
-    public JumpItemService(JumpItemSettings jumpItemSettings) {
-        this.jumpItem = jumpItemSettings.item;
-        this.jumpItemUsage = jumpItemSettings.usageSettings.usage;
-        this.ignoreEnchants = !jumpItemSettings.cancelEnchant;
-        this.ignoreDurability = !jumpItemSettings.cancelRepair;
+    public JumpItemService(Plugin plugin, Supplier<JumpItemSettings> jumpItemSettings, Supplier<JumpItemProfileIndex> profileIndex) {
+        this.jumpItemKey = new NamespacedKey(plugin, "jump-item");
+        this.jumpItemProfileKey = new NamespacedKey(plugin, "jump-item-profile");
+        this.jumpItemSettings = jumpItemSettings;
+        this.profileIndex = profileIndex;
     }
 
-    public boolean compare(ItemStack toCompare) {
-        ItemMeta jumpItemMeta = this.jumpItem.getItemMeta();
+    /**
+     * @return A new default jump item stamped with the current item version
+     */
+    public ItemStack createItem() {
+        return this.createItem(this.profileIndex.get().getDefault());
+    }
 
-        if (jumpItemMeta == null) {
-            return this.jumpItem.equals(toCompare);
+    /**
+     * @param profile the profile of the item
+     * @return A new jump item of the profile stamped with the current item version
+     */
+    public ItemStack createItem(JumpItemProfile profile) {
+        ItemStack itemStack = profile.item().clone();
+
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        if (itemMeta == null) {
+            return itemStack;
         }
 
-        ItemStack toCompareClone = new ItemStack(toCompare);
-        ItemMeta toCompareCloneMeta = toCompareClone.getItemMeta();
+        this.stamp(itemMeta, profile);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
 
-        if (toCompareCloneMeta == null) {
-            return this.jumpItem.equals(toCompareClone);
+    public Optional<JumpItemProfile> getProfile(String id) {
+        return this.profileIndex.get().get(id);
+    }
+
+    public JumpItemProfileIndex getProfileIndex() {
+        return this.profileIndex.get();
+    }
+
+    /**
+     * Resolves the jump item profile of the item.
+     * Items stamped with the current version of their profile are resolved by a single persistent data read and one index lookup,
+     * unstamped items and items stamped for an older item config fall back to the full comparison and are stamped when they match.
+     *
+     * @param itemStack the item to resolve
+     * @return the profile of the item, empty if the item is not a jump item
+     */
+    public Optional<JumpItemProfile> resolve(ItemStack itemStack) {
+        if (itemStack == null) {
+            return Optional.empty();
         }
 
-        if (this.ignoreDurability) {
-            if (jumpItemMeta instanceof Damageable jumpDamageable && toCompareCloneMeta instanceof Damageable toCompareDamageable) {
-                toCompareDamageable.setDamage(jumpDamageable.getDamage());
-                toCompareClone.setItemMeta(toCompareDamageable);
+        JumpItemProfileIndex profileIndex = this.profileIndex.get();
+
+        Material material = itemStack.getType();
+        if (!profileIndex.hasMaterial(material)) {
+            return Optional.empty();
+        }
+
+        if (!itemStack.hasItemMeta()) {
+            return profileIndex.getByMaterial(material).stream()
+                    .filter(profile -> profile.item().equals(itemStack))
+                    .findFirst();
+        }
+
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        PersistentDataContainer dataContainer = itemMeta.getPersistentDataContainer();
+
+        String itemVersion = dataContainer.get(this.jumpItemKey, PersistentDataType.STRING);
+        if (itemVersion != null) {
+            String profileId = dataContainer.getOrDefault(this.jumpItemProfileKey, PersistentDataType.STRING, JumpItemProfile.DEFAULT_ID);
+
+            Optional<JumpItemProfile> stampedProfile = profileIndex.get(material, profileId);
+            if (stampedProfile.isPresent() && stampedProfile.get().version().equals(itemVersion)) {
+                return stampedProfile;
             }
         }
 
-        if (this.ignoreEnchants) {
-            toCompareClone.getEnchantments().putAll(jumpItemMeta.getEnchants());
+        for (JumpItemProfile profile : profileIndex.getByMaterial(material)) {
+            if (this.compareLegacy(profile, itemStack)) {
+                this.stamp(itemMeta, profile);
+                itemStack.setItemMeta(itemMeta);
+                return Optional.of(profile);
+            }
         }
 
-        return toCompareClone.equals(this.jumpItem);
+        return Optional.empty();
     }
 
-    public boolean isCorrectlyUsed(Player player) {
-        PlayerInventory playerInventory = player.getInventory();
+    /**
+     * Checks whether the item is a jump item of any profile.
+     *
+     * @param toCompare the item to check
+     * @return true if the item is a jump item
+     */
+    public boolean compare(ItemStack toCompare) {
+        return this.resolve(toCompare).isPresent();
+    }
+
+    public boolean contains(Inventory inventory) {
+        for (ItemStack itemStack : inventory.getContents()) {
+            if (this.compare(itemStack)) {
+                return true;
+            }
+        }
 
-        return switch (this.jumpItemUsage) {
-            case WEAR_ITEM -> this.isWearing(player);
-            case HOLD_ITEM -> {
-                ItemStack itemInMainHand = playerInventory.getItemInMainHand();
-                ItemStack itemInOffHand = playerInventory.getItemInOffHand();
+        return false;
+    }
 
-                yield this.compare(itemInMainHand) || this.compare(itemInOffHand);
+    /**
+     * Removes all jump items from the inventory.
+     *
+     * @param inventory the inventory to remove items from
+     * @return true if any item has been removed
+     */
+    public boolean remove(Inventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        boolean removed = false;
+
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (this.compare(contents[slot])) {
+                inventory.clear(slot);
+                removed = true;
             }
-            case HAVE_ITEM -> playerInventory.contains(this.jumpItem);
-            default -> false;
-        };
+        }
+
+        return removed;
     }
 
-    public boolean isWearing(Player player) {
+    /**
+     * Resolves the profile the player currently uses according to its usage.
+     * Worn items are checked first, then held items and then the whole inventory.
+     *
+     * @param player the player to check
+     * @return the active profile, empty if the player does not use any jump item correctly
+     */
+    public Optional<JumpItemProfile> resolveActiveProfile(Player player) {
         PlayerInventory playerInventory = player.getInventory();
 
-        return switch (this.jumpItem.getType()) {
-            case DIAMOND_HELMET, CHAINMAIL_HELMET, GOLDEN_HELMET, LEATHER_HELMET, IRON_HELMET, TURTLE_HELMET, NETHERITE_HELMET -> {
-                ItemStack playerHelmet = playerInventory.getHelmet();
+        for (ItemStack armorContent : playerInventory.getArmorContents()) {
+            Optional<JumpItemProfile> profile = this.resolve(armorContent).filter(resolved -> resolved.usage() == JumpItemUsage.WEAR_ITEM);
+            if (profile.isPresent()) {
+                return profile;
+            }
+        }
 
-                if (playerHelmet == null) {
-                    yield false;
-                }
+        ItemStack[] heldItems = {playerInventory.getItemInMainHand(), playerInventory.getItemInOffHand()};
+        for (ItemStack heldItem : heldItems) {
+            Optional<JumpItemProfile> profile = this.resolve(heldItem).filter(resolved -> resolved.usage() == JumpItemUsage.HOLD_ITEM);
+            if (profile.isPresent()) {
+                return profile;
+            }
+        }
 
-                yield this.compare(playerHelmet);
+        for (ItemStack itemStack : playerInventory.getContents()) {
+            Optional<JumpItemProfile> profile = this.resolve(itemStack).filter(resolved -> resolved.usage() == JumpItemUsage.HAVE_ITEM);
+            if (profile.isPresent()) {
+                return profile;
             }
+        }
 
-            case DIAMOND_CHESTPLATE, CHAINMAIL_CHESTPLATE, GOLDEN_CHESTPLATE, IRON_CHESTPLATE, LEATHER_CHESTPLATE, NETHERITE_CHESTPLATE -> {
-                ItemStack playerChestPlate = playerInventory.getChestplate();
+        return Optional.empty();
+    }
 
-                if (playerChestPlate == null) {
-                    yield false;
-                }
+    public boolean isCorrectlyUsed(Player player) {
+        return this.resolveActiveProfile(player).isPresent();
+    }
 
-                yield this.compare(playerChestPlate);
+    public boolean isWearing(Player player) {
+        for (ItemStack armorContent : player.getInventory().getArmorContents()) {
+            if (this.resolve(armorContent).filter(profile -> profile.usage() == JumpItemUsage.WEAR_ITEM).isPresent()) {
+                return true;
             }
+        }
 
-            case DIAMOND_LEGGINGS, CHAINMAIL_LEGGINGS, GOLDEN_LEGGINGS, IRON_LEGGINGS, LEATHER_LEGGINGS, NETHERITE_LEGGINGS -> {
-                ItemStack playerLeggings = playerInventory.getLeggings();
+        return false;
+    }
 
-                if (playerLeggings == null) {
-                    yield false;
-                }
+    private void stamp(ItemMeta itemMeta, JumpItemProfile profile) {
+        PersistentDataContainer dataContainer = itemMeta.getPersistentDataContainer();
 
-                yield this.compare(playerLeggings);
-            }
+        dataContainer.set(this.jumpItemKey, PersistentDataType.STRING, profile.version());
+        dataContainer.set(this.jumpItemProfileKey, PersistentDataType.STRING, profile.id());
+    }
+
+    private boolean compareLegacy(JumpItemProfile profile, ItemStack toCompare) {
+        ItemStack jumpItem = profile.item();
+        ItemMeta jumpItemMeta = jumpItem.getItemMeta();
 
-            case DIAMOND_BOOTS, CHAINMAIL_BOOTS, GOLDEN_BOOTS, IRON_BOOTS, LEATHER_BOOTS, NETHERITE_BOOTS -> {
-                ItemStack playerBoots = playerInventory.getBoots();
+        if (jumpItemMeta == null) {
+            return jumpItem.equals(toCompare);
+        }
+
+        ItemStack toCompareClone = new ItemStack(toCompare);
+        ItemMeta toCompareCloneMeta = toCompareClone.getItemMeta();
+
+        if (toCompareCloneMeta == null) {
+            return jumpItem.equals(toCompareClone);
+        }
 
-                if (playerBoots == null) {
-                    yield false;
-                }
+        PersistentDataContainer cloneDataContainer = toCompareCloneMeta.getPersistentDataContainer();
+        cloneDataContainer.remove(this.jumpItemKey);
+        cloneDataContainer.remove(this.jumpItemProfileKey);
 
-                yield this.compare(playerBoots);
+        JumpItemSettings jumpItemSettings = this.jumpItemSettings.get();
+
+        if (!jumpItemSettings.cancelRepair) {
+            if (jumpItemMeta instanceof Damageable jumpDamageable && toCompareCloneMeta instanceof Damageable toCompareDamageable) {
+                toCompareDamageable.setDamage(jumpDamageable.getDamage());
             }
+        }
+
+        toCompareClone.setItemMeta(toCompareCloneMeta);
+
+        if (!jumpItemSettings.cancelEnchant) {
+            toCompareClone.getEnchantments().putAll(jumpItemMeta.getEnchants());
+        }
 
-            default -> false;
-        };
+        return toCompareClone.equals(jumpItem);
     }
 }
@@ -1,5 +1,6 @@
 package com.github.imdmk.doublejump.jump.item;
 
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfileSettings;
 import com.github.imdmk.doublejump.notification.Notification;
 import com.github.imdmk.doublejump.notification.NotificationType;
 import dev.triumphteam.gui.builder.item.ItemBuilder;
@@ -11,6 +12,10 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class JumpItemSettings extends OkaeriConfig {
 
     @Comment("# Specifies whether the item should be enabled")
@@ -18,7 +23,7 @@ public class JumpItemSettings extends OkaeriConfig {
 
     @Comment({
             "# Cancel jump item repair in anvil?",
-            "# If you allow it, the player will be able to repair the item, but will not be able to rename it (renaming will make the item inoperable)"
+            "# If you allow it, the player will be able to repair the item"
     })
     public boolean cancelRepair = false;
 
@@ -36,6 +41,39 @@ public class JumpItemSettings extends OkaeriConfig {
             .enchant(Enchantment.DURABILITY, 10)
             .build();
 
+    @Comment({
+            "# Additional jump item profiles, the key is the profile id used in \"/doublejump item give <player> <profile>\"",
+            "# Each profile has its own item, usage, jump velocity, jump limit and particles",
+            "# The item configured above is the \"default\" profile using the usage from usageSettings",
+            "# Example:",
+            "# profiles:",
+            "#   feather-of-leaping:",
+            "#     item:",
+            "#       material: FEATHER",
+            "#       item-meta:",
+            "#         display-name: '<aqua>FEATHER OF LEAPING'",
+            "#         lore: ['', '<aqua>Hold it to jump three times!', '']",
+            "#     usage: HOLD_ITEM",
+            "#     jumpsLimit: 3",
+            "#   rocket-boots:",
+            "#     item:",
+            "#       material: GOLDEN_BOOTS",
+            "#       item-meta:",
+            "#         display-name: '<gold>ROCKET BOOTS'",
+            "#         lore: ['', '<gold>Wear them to jump higher!', '']",
+            "#         item-flags: [HIDE_ATTRIBUTES]",
+            "#     usage: WEAR_ITEM",
+            "#     jumpMultiple: 0.6",
+            "#     jumpUp: 1.0"
+    })
+    public Map<String, JumpItemProfileSettings> profiles = new LinkedHashMap<>();
+
+    @Comment({
+            "# Specifies how often the cached jump item possession of online players is verified against their inventories",
+            "# Possession is tracked from inventory events, this only catches changes made outside of them (e.g. by other plugins)"
+    })
+    public Duration possessionReconcileInterval = Duration.ofSeconds(5);
+
     @Comment({"# ", "# Jump item usage settings", "# "})
     public JumpItemUsageSettings usageSettings = new JumpItemUsageSettings();
 
@@ -109,5 +147,8 @@ public class JumpItemSettings extends OkaeriConfig {
         public Notification targetHasNoJumpItem = new Notification(NotificationType.CHAT, "<red>The player has no jump item in inventory and ender chest");
         public Notification targetHasFullInventory = new Notification(NotificationType.CHAT, "<red>The player has a full inventory");
 
+        @Comment("# {PROFILE} - The id of the jump item profile")
+        public Notification jumpItemProfileNotFound = new Notification(NotificationType.CHAT, "<red>Jump item profile {PROFILE} does not exist");
+
     }
 }
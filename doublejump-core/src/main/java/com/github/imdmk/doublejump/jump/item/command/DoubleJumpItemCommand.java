@@ -1,6 +1,9 @@
 package com.github.imdmk.doublejump.jump.item.command;
 
+import com.github.imdmk.doublejump.jump.item.JumpItemPossessionCache;
+import com.github.imdmk.doublejump.jump.item.JumpItemService;
 import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
 import com.github.imdmk.doublejump.notification.NotificationSender;
 import com.github.imdmk.doublejump.text.Formatter;
 import dev.rollczi.litecommands.annotations.argument.Arg;
@@ -11,61 +14,81 @@ import dev.rollczi.litecommands.annotations.permission.Permission;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemStack;
+
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Command(name = "doublejump item")
 @Permission("command.doublejump.item")
 public class DoubleJumpItemCommand {
 
-    private final JumpItemSettings jumpItemSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final NotificationSender notificationSender;
+    private final JumpItemService jumpItemService;
+    private final JumpItemPossessionCache possessionCache;
 
-    public DoubleJumpItemCommand(JumpItemSettings jumpItemSettings, NotificationSender notificationSender) {
+    public DoubleJumpItemCommand(Supplier<JumpItemSettings> jumpItemSettings, NotificationSender notificationSender, JumpItemService jumpItemService, JumpItemPossessionCache possessionCache) {
         this.jumpItemSettings = jumpItemSettings;
         this.notificationSender = notificationSender;
+        this.jumpItemService = jumpItemService;
+        this.possessionCache = possessionCache;
     }
 
     @Execute(name = "give")
     void giveItem(@Context CommandSender sender, @Arg("target") Player target) {
-        if (!this.jumpItemSettings.enabled) {
-            this.notificationSender.send(sender, this.jumpItemSettings.notificationSettings.jumpItemDisabled);
+        this.giveItem(sender, target, JumpItemProfile.DEFAULT_ID);
+    }
+
+    @Execute(name = "give")
+    void giveItem(@Context CommandSender sender, @Arg("target") Player target, @Arg("profile") String profileId) {
+        if (!this.jumpItemSettings.get().enabled) {
+            this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.jumpItemDisabled);
+            return;
+        }
+
+        Optional<JumpItemProfile> profile = this.jumpItemService.getProfile(profileId);
+        if (profile.isEmpty()) {
+            Formatter formatter = new Formatter()
+                    .placeholder("{PROFILE}", profileId);
+
+            this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.jumpItemProfileNotFound, formatter);
             return;
         }
 
-        ItemStack jumpItem = this.jumpItemSettings.item;
         Inventory targetInventory = target.getInventory();
 
         if (targetInventory.firstEmpty() == -1) {
-            this.notificationSender.send(sender, this.jumpItemSettings.notificationSettings.targetHasFullInventory);
+            this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.targetHasFullInventory);
             return;
         }
 
-        targetInventory.addItem(jumpItem);
+        targetInventory.addItem(this.jumpItemService.createItem(profile.get()));
+        this.possessionCache.markDirty(target);
 
         Formatter formatter = new Formatter()
                 .placeholder("{PLAYER}", target.getName());
 
-        this.notificationSender.send(sender, this.jumpItemSettings.notificationSettings.jumpItemAdded, formatter);
+        this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.jumpItemAdded, formatter);
     }
 
     @Execute(name = "remove")
     void removeItem(@Context CommandSender sender, @Arg("target") Player target) {
-        ItemStack jumpItem = this.jumpItemSettings.item;
-
         Inventory targetInventory = target.getInventory();
         Inventory targetEnderChest = target.getEnderChest();
 
-        if (!targetInventory.contains(jumpItem) && !targetEnderChest.contains(jumpItem)) {
-            this.notificationSender.send(sender, this.jumpItemSettings.notificationSettings.targetHasNoJumpItem);
+        boolean removedFromInventory = this.jumpItemService.remove(targetInventory);
+        boolean removedFromEnderChest = this.jumpItemService.remove(targetEnderChest);
+
+        this.possessionCache.markDirty(target);
+
+        if (!removedFromInventory && !removedFromEnderChest) {
+            this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.targetHasNoJumpItem);
             return;
         }
 
-        targetInventory.remove(jumpItem);
-        targetEnderChest.remove(jumpItem);
-
         Formatter formatter = new Formatter()
                 .placeholder("{PLAYER}", target.getName());
 
-        this.notificationSender.send(sender, this.jumpItemSettings.notificationSettings.jumpItemRemoved, formatter);
+        this.notificationSender.send(sender, this.jumpItemSettings.get().notificationSettings.jumpItemRemoved, formatter);
     }
 }
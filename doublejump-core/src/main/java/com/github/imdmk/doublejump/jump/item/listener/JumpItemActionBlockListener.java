@@ -12,19 +12,21 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 
+import java.util.function.Supplier;
+
 public class JumpItemActionBlockListener implements Listener {
 
-    private final JumpItemSettings jumpItemSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final JumpItemService jumpItemService;
 
-    public JumpItemActionBlockListener(JumpItemSettings jumpItemSettings, JumpItemService jumpItemService) {
+    public JumpItemActionBlockListener(Supplier<JumpItemSettings> jumpItemSettings, JumpItemService jumpItemService) {
         this.jumpItemSettings = jumpItemSettings;
         this.jumpItemService = jumpItemService;
     }
 
     @EventHandler
     public void onEnchantItem(EnchantItemEvent event) {
-        if (!this.jumpItemSettings.cancelEnchant) {
+        if (!this.jumpItemSettings.get().cancelEnchant) {
             return;
         }
 
@@ -58,7 +60,7 @@ public class JumpItemActionBlockListener implements Listener {
             return;
         }
 
-        if (this.jumpItemSettings.cancelRepair) {
+        if (this.jumpItemSettings.get().cancelRepair) {
             event.setCancelled(true);
             event.setResult(Event.Result.DENY);
             return;
@@ -75,7 +77,7 @@ public class JumpItemActionBlockListener implements Listener {
             return;
         }
 
-        ItemStack jumpItemClone = new ItemStack(this.jumpItemSettings.item);
+        ItemStack jumpItemClone = this.jumpItemService.createItem();
 
         if (!(jumpItemClone.getItemMeta() instanceof Damageable jumpItemDamageable)) {
             event.setCancelled(true);
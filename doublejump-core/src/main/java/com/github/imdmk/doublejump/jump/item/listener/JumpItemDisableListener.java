@@ -14,14 +14,16 @@ import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.function.Supplier;
+
 public class JumpItemDisableListener implements Listener {
 
-    private final JumpItemSettings jumpItemSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final JumpItemService jumpItemService;
     private final JumpPlayerManager jumpPlayerManager;
     private final JumpPlayerService jumpPlayerService;
 
-    public JumpItemDisableListener(JumpItemSettings jumpItemSettings, JumpItemService jumpItemService, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService) {
+    public JumpItemDisableListener(Supplier<JumpItemSettings> jumpItemSettings, JumpItemService jumpItemService, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService) {
         this.jumpItemSettings = jumpItemSettings;
         this.jumpItemService = jumpItemService;
         this.jumpPlayerManager = jumpPlayerManager;
@@ -34,11 +36,11 @@ public class JumpItemDisableListener implements Listener {
             return;
         }
 
-        if (!this.jumpItemSettings.enabled) {
+        if (!this.jumpItemSettings.get().enabled) {
             return;
         }
 
-        if (this.jumpItemSettings.usageSettings.usage != JumpItemUsage.WEAR_ITEM) {
+        if (!this.jumpItemService.getProfileIndex().hasUsage(JumpItemUsage.WEAR_ITEM)) {
             return;
         }
 
@@ -46,7 +48,7 @@ public class JumpItemDisableListener implements Listener {
             return;
         }
 
-        if (!this.jumpItemService.isWearing(player)) {
+        if (this.jumpItemService.isCorrectlyUsed(player)) {
             return;
         }
 
@@ -55,7 +57,7 @@ public class JumpItemDisableListener implements Listener {
 
     @EventHandler
     public void onPlayerDropItem(PlayerDropItemEvent event) {
-        if (this.jumpItemSettings.dropSettings.disableDoubleJumpMode) {
+        if (this.jumpItemSettings.get().dropSettings.disableDoubleJumpMode) {
             return;
         }
 
@@ -78,10 +80,6 @@ public class JumpItemDisableListener implements Listener {
     public void onPlayerItemHeld(PlayerItemHeldEvent event) {
         Player player = event.getPlayer();
 
-        if (this.jumpItemSettings.usageSettings.usage != JumpItemUsage.HOLD_ITEM) {
-            return;
-        }
-
         if (!this.jumpPlayerManager.isDoubleJumpMode(player)) {
             return;
         }
@@ -93,7 +91,11 @@ public class JumpItemDisableListener implements Listener {
             return;
         }
 
-        if (!this.jumpItemService.compare(previousItem)) {
+        boolean heldJumpItem = this.jumpItemService.resolve(previousItem)
+                .filter(profile -> profile.usage() == JumpItemUsage.HOLD_ITEM)
+                .isPresent();
+
+        if (!heldJumpItem) {
             return;
         }
 
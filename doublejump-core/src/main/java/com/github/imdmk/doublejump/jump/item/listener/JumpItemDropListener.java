@@ -9,13 +9,15 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.function.Supplier;
+
 public class JumpItemDropListener implements Listener {
 
-    private final JumpItemSettings jumpItemSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final JumpItemService jumpItemService;
     private final JumpPlayerService jumpPlayerService;
 
-    public JumpItemDropListener(JumpItemSettings jumpItemSettings, JumpItemService jumpItemService, JumpPlayerService jumpPlayerService) {
+    public JumpItemDropListener(Supplier<JumpItemSettings> jumpItemSettings, JumpItemService jumpItemService, JumpPlayerService jumpPlayerService) {
         this.jumpItemSettings = jumpItemSettings;
         this.jumpItemService = jumpItemService;
         this.jumpPlayerService = jumpPlayerService;
@@ -31,16 +33,16 @@ public class JumpItemDropListener implements Listener {
             return;
         }
 
-        if (this.jumpItemSettings.dropSettings.delete) {
+        if (this.jumpItemSettings.get().dropSettings.delete) {
             event.setCancelled(true);
             player.getInventory().removeItem(itemDrop);
         }
 
-        if (this.jumpItemSettings.dropSettings.disableDoubleJumpMode) {
+        if (this.jumpItemSettings.get().dropSettings.disableDoubleJumpMode) {
             this.jumpPlayerService.disable(player);
         }
 
-        if (this.jumpItemSettings.dropSettings.cancel) {
+        if (this.jumpItemSettings.get().dropSettings.cancel) {
             event.setCancelled(true);
         }
     }
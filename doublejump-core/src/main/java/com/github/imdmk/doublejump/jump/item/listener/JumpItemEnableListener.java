@@ -1,46 +1,73 @@
 package com.github.imdmk.doublejump.jump.item.listener;
 
+import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpPlayerService;
-import com.github.imdmk.doublejump.jump.item.JumpItemService;
+import com.github.imdmk.doublejump.jump.JumpSettings;
+import com.github.imdmk.doublejump.jump.item.JumpItemPossessionCache;
 import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 public class JumpItemEnableListener implements Listener {
 
-    private final JumpItemSettings jumpItemSettings;
+    private final Supplier<JumpSettings> jumpSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final JumpPlayerManager jumpPlayerManager;
     private final JumpPlayerService jumpPlayerService;
-    private final JumpItemService jumpItemService;
+    private final JumpItemPossessionCache possessionCache;
+    private final HotPathTimer moveTimer;
 
-    public JumpItemEnableListener(JumpItemSettings jumpItemSettings, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpItemService jumpItemService) {
+    public JumpItemEnableListener(Supplier<JumpSettings> jumpSettings, Supplier<JumpItemSettings> jumpItemSettings, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpItemPossessionCache possessionCache, TimingRegistry timingRegistry) {
+        this.jumpSettings = jumpSettings;
         this.jumpItemSettings = jumpItemSettings;
         this.jumpPlayerManager = jumpPlayerManager;
         this.jumpPlayerService = jumpPlayerService;
-        this.jumpItemService = jumpItemService;
+        this.possessionCache = possessionCache;
+        this.moveTimer = timingRegistry.timer("move: item enable");
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (!this.jumpItemSettings.enabled) {
-            return;
-        }
+        long startNanos = this.moveTimer.start();
 
-        Player player = event.getPlayer();
+        try {
+            if (!this.jumpItemSettings.get().enabled) {
+                return;
+            }
 
-        if (player.isFlying()) {
-            return;
-        }
+            Player player = event.getPlayer();
 
-        if (this.jumpPlayerManager.isDoubleJumpMode(player)) {
-            return;
-        }
+            if (player.isFlying()) {
+                return;
+            }
+
+            if (this.jumpPlayerManager.isDoubleJumpMode(player)) {
+                return;
+            }
+
+            Optional<JumpItemProfile> activeProfile = this.possessionCache.getActiveProfile(player);
+            if (activeProfile.isEmpty()) {
+                return;
+            }
 
-        if (this.jumpItemService.isCorrectlyUsed(player)) {
             this.jumpPlayerService.enable(player, true);
+
+            int profileJumpsLimit = activeProfile.get().jumpsLimit();
+            if (this.jumpSettings.get().limitSettings.enabled && profileJumpsLimit > 0) {
+                this.jumpPlayerManager.add(player.getUniqueId(), new JumpPlayer(profileJumpsLimit, profileJumpsLimit));
+            }
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
         }
     }
 }
@@ -1,16 +1,18 @@
 package com.github.imdmk.doublejump.jump.item.listener;
 
+import com.github.imdmk.doublejump.jump.JumpExecutor;
 import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpPlayerService;
 import com.github.imdmk.doublejump.jump.JumpSettings;
-import com.github.imdmk.doublejump.jump.event.DoubleJumpEvent;
 import com.github.imdmk.doublejump.jump.item.JumpItemService;
 import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
 import com.github.imdmk.doublejump.jump.item.JumpItemUsage;
+import com.github.imdmk.doublejump.jump.item.profile.JumpItemProfile;
 import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionService;
 import com.github.imdmk.doublejump.notification.NotificationSender;
-import org.bukkit.Server;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -19,19 +21,23 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 public class JumpItemInteractListener implements Listener {
 
-    private final Server server;
-    private final JumpSettings jumpSettings;
-    private final JumpItemSettings jumpItemSettings;
+    private final JumpExecutor jumpExecutor;
+    private final Supplier<JumpSettings> jumpSettings;
+    private final Supplier<JumpItemSettings> jumpItemSettings;
     private final NotificationSender notificationSender;
     private final JumpPlayerManager jumpPlayerManager;
     private final JumpPlayerService jumpPlayerService;
     private final JumpItemService jumpItemService;
     private final JumpRestrictionService jumpRestrictionService;
+    private final HotPathTimer interactTimer;
 
-    public JumpItemInteractListener(Server server, JumpSettings jumpSettings, JumpItemSettings jumpItemSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpItemService jumpItemService, JumpRestrictionService jumpRestrictionService) {
-        this.server = server;
+    public JumpItemInteractListener(JumpExecutor jumpExecutor, Supplier<JumpSettings> jumpSettings, Supplier<JumpItemSettings> jumpItemSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpItemService jumpItemService, JumpRestrictionService jumpRestrictionService, TimingRegistry timingRegistry) {
+        this.jumpExecutor = jumpExecutor;
         this.jumpSettings = jumpSettings;
         this.jumpItemSettings = jumpItemSettings;
         this.notificationSender = notificationSender;
@@ -39,68 +45,74 @@ public class JumpItemInteractListener implements Listener {
         this.jumpPlayerService = jumpPlayerService;
         this.jumpItemService = jumpItemService;
         this.jumpRestrictionService = jumpRestrictionService;
+        this.interactTimer = timingRegistry.timer("interact: jump item");
     }
 
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
-        Player player = event.getPlayer();
+        long startNanos = this.interactTimer.start();
 
-        if (!this.jumpItemSettings.enabled) {
-            return;
-        }
+        try {
+            Player player = event.getPlayer();
 
-        if (this.jumpItemSettings.usageSettings.usage != JumpItemUsage.CLICK_ITEM) {
-            return;
-        }
+            JumpItemSettings jumpItemSettings = this.jumpItemSettings.get();
+            if (!jumpItemSettings.enabled) {
+                return;
+            }
 
-        Action action = event.getAction();
-        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
-            return;
-        }
+            Action action = event.getAction();
+            if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
+                return;
+            }
 
-        ItemStack clickedItem = event.getItem();
-        if (clickedItem == null) {
-            return;
-        }
+            ItemStack clickedItem = event.getItem();
+            if (clickedItem == null) {
+                return;
+            }
 
-        if (!this.jumpItemService.compare(clickedItem)) {
-            return;
-        }
+            Optional<JumpItemProfile> clickedProfile = this.jumpItemService.resolve(clickedItem)
+                    .filter(profile -> profile.usage() == JumpItemUsage.CLICK_ITEM);
 
-        if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
-            event.setCancelled(true);
-            return;
-        }
+            if (clickedProfile.isEmpty()) {
+                return;
+            }
 
-        if (this.jumpItemSettings.usageSettings.delete) {
-            player.getInventory().removeItem(clickedItem);
-        }
+            if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
+                event.setCancelled(true);
+                return;
+            }
 
-        if (this.jumpItemSettings.usageSettings.cancel) {
-            event.setCancelled(true);
-        }
+            if (jumpItemSettings.usageSettings.delete) {
+                player.getInventory().removeItem(clickedItem);
+            }
 
-        if (this.jumpItemSettings.usageSettings.switchDoubleJumpMode) {
-            this.switchDoubleJump(player);
-        }
+            if (jumpItemSettings.usageSettings.cancel) {
+                event.setCancelled(true);
+            }
 
-        if (this.jumpItemSettings.usageSettings.doubleJump) {
-            JumpPlayer jumpPlayer = this.jumpPlayerService.getOrCreateJumpPlayer(player);
+            if (jumpItemSettings.usageSettings.switchDoubleJumpMode) {
+                this.switchDoubleJump(player, clickedProfile.get());
+            }
 
-            this.useDoubleJump(player, jumpPlayer);
-        }
+            if (jumpItemSettings.usageSettings.doubleJump) {
+                JumpPlayer jumpPlayer = this.jumpPlayerService.getOrCreateJumpPlayer(player);
 
-        this.reduceDurability(clickedItem, this.jumpItemSettings.usageSettings.reduceDurability);
+                this.useDoubleJump(player, jumpPlayer);
+            }
 
-        if (this.jumpItemSettings.usageSettings.disableDoubleJumpMode) {
-            this.jumpPlayerService.disable(player);
+            this.reduceDurability(clickedItem, jumpItemSettings.usageSettings.reduceDurability);
+
+            if (jumpItemSettings.usageSettings.disableDoubleJumpMode) {
+                this.jumpPlayerService.disable(player);
+            }
+        }
+        finally {
+            this.interactTimer.stop(startNanos);
         }
     }
 
     private void useDoubleJump(Player player, JumpPlayer jumpPlayer) {
-        DoubleJumpEvent doubleJumpEvent = new DoubleJumpEvent(player, jumpPlayer);
-
-        this.server.getPluginManager().callEvent(doubleJumpEvent);
+        this.jumpExecutor.execute(player, jumpPlayer);
     }
 
     private void reduceDurability(ItemStack item, int reduceBy) {
@@ -126,16 +138,21 @@ public class JumpItemInteractListener implements Listener {
         item.setItemMeta(itemDamageable);
     }
 
-    private void switchDoubleJump(Player player) {
+    private void switchDoubleJump(Player player, JumpItemProfile profile) {
         if (this.jumpPlayerManager.isDoubleJumpMode(player)) {
             this.jumpPlayerService.disable(player);
 
-            this.notificationSender.send(player, this.jumpSettings.notificationSettings.jumpModeDisabled);
+            this.notificationSender.send(player, this.jumpSettings.get().notificationSettings.jumpModeDisabled);
         }
         else {
-            this.jumpPlayerService.enable(player, false);
+            boolean enabled = this.jumpPlayerService.enable(player, false);
+
+            int profileJumpsLimit = profile.jumpsLimit();
+            if (enabled && this.jumpSettings.get().limitSettings.enabled && profileJumpsLimit > 0) {
+                this.jumpPlayerManager.add(player.getUniqueId(), new JumpPlayer(profileJumpsLimit, profileJumpsLimit));
+            }
 
-            this.notificationSender.send(player, this.jumpSettings.notificationSettings.jumpModeEnabled);
+            this.notificationSender.send(player, this.jumpSettings.get().notificationSettings.jumpModeEnabled);
         }
     }
 }
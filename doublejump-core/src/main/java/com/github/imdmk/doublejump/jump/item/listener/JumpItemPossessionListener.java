@@ -0,0 +1,171 @@
+package com.github.imdmk.doublejump.jump.item.listener;
+
+import com.github.imdmk.doublejump.jump.item.JumpItemPossessionCache;
+import com.github.imdmk.doublejump.jump.item.JumpItemService;
+import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.function.Supplier;
+
+public class JumpItemPossessionListener implements Listener {
+
+    private final Supplier<JumpItemSettings> jumpItemSettings;
+    private final JumpItemService jumpItemService;
+    private final JumpItemPossessionCache possessionCache;
+    private final HotPathTimer interactTimer;
+
+    public JumpItemPossessionListener(Supplier<JumpItemSettings> jumpItemSettings, JumpItemService jumpItemService, JumpItemPossessionCache possessionCache, TimingRegistry timingRegistry) {
+        this.jumpItemSettings = jumpItemSettings;
+        this.jumpItemService = jumpItemService;
+        this.possessionCache = possessionCache;
+        this.interactTimer = timingRegistry.timer("interact: item possession");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        this.markDirty(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        this.markDirty(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityPickupItem(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            this.markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerDropItem(PlayerDropItemEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerItemHeld(PlayerItemHeldEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerSwapHandItems(PlayerSwapHandItemsEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        long startNanos = this.interactTimer.start();
+
+        try {
+            if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) {
+                return;
+            }
+
+            if (event.useItemInHand() == Event.Result.DENY) {
+                return;
+            }
+
+            Player player = event.getPlayer();
+
+            if (this.isPossessionChanging(player, event.getItem())) {
+                this.markDirty(player);
+            }
+        }
+        finally {
+            this.interactTimer.stop(startNanos);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDispenseArmor(BlockDispenseArmorEvent event) {
+        if (event.getTargetEntity() instanceof Player player) {
+            this.markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerItemBreak(PlayerItemBreakEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        this.markDirty(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.possessionCache.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Right-clicking can only change the used jump item when the clicked item is a jump item, which may be equipped or used up,
+     * or when it is armor replacing a worn jump item.
+     */
+    private boolean isPossessionChanging(Player player, ItemStack item) {
+        if (item == null) {
+            return false;
+        }
+
+        if (this.jumpItemService.compare(item)) {
+            return true;
+        }
+
+        EquipmentSlot slot = item.getType().getEquipmentSlot();
+        if (slot == EquipmentSlot.HAND || slot == EquipmentSlot.OFF_HAND) {
+            return false;
+        }
+
+        return this.jumpItemService.compare(player.getInventory().getItem(slot));
+    }
+
+    private void markDirty(HumanEntity humanEntity) {
+        if (!this.jumpItemSettings.get().enabled) {
+            return;
+        }
+
+        if (humanEntity instanceof Player player) {
+            this.possessionCache.markDirty(player);
+        }
+    }
+}
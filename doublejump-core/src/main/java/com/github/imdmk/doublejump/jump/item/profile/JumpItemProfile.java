@@ -0,0 +1,25 @@
+package com.github.imdmk.doublejump.jump.item.profile;
+
+import com.github.imdmk.doublejump.jump.item.JumpItemUsage;
+import com.github.imdmk.doublejump.jump.particle.JumpParticle;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+/**
+ * A loaded jump item profile.
+ *
+ * @param id the profile id stamped on its items
+ * @param item the configured item
+ * @param version the hash of the configured item, items stamped with another version are compared again
+ * @param usage the usage of the item
+ * @param jumpMultiple the jump multiplier, 0 to use the default one
+ * @param jumpUp the jump height, 0 to use the default one
+ * @param jumpsLimit the jump limit, 0 to use the default limits
+ * @param particles the particles, empty to use the default ones
+ */
+public record JumpItemProfile(String id, ItemStack item, String version, JumpItemUsage usage, double jumpMultiple, double jumpUp, int jumpsLimit, List<JumpParticle> particles) {
+
+    public static final String DEFAULT_ID = "default";
+
+}
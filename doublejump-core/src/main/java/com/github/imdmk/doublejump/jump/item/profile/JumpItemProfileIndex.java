@@ -0,0 +1,172 @@
+package com.github.imdmk.doublejump.jump.item.profile;
+
+import com.github.imdmk.doublejump.jump.item.JumpItemSettings;
+import com.github.imdmk.doublejump.jump.item.JumpItemUsage;
+import org.bukkit.Material;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.inventory.ItemStack;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of jump item profiles, keyed by item material and profile id, so resolving a stamped item costs one hash lookup.
+ * The item configured directly in the item settings is the profile with the {@link JumpItemProfile#DEFAULT_ID} id.
+ */
+public class JumpItemProfileIndex {
+
+    private static final int VERSION_BYTES = 8;
+
+    private final Map<String, JumpItemProfile> profilesById = new LinkedHashMap<>();
+    private final Map<ProfileKey, JumpItemProfile> profilesByKey = new HashMap<>();
+    private final Map<Material, List<JumpItemProfile>> profilesByMaterial = new HashMap<>();
+    private final Set<JumpItemUsage> usages = EnumSet.noneOf(JumpItemUsage.class);
+
+    public JumpItemProfileIndex(JumpItemSettings jumpItemSettings) {
+        this.register(JumpItemProfile.DEFAULT_ID, new JumpItemProfileSettings(jumpItemSettings.item, jumpItemSettings.usageSettings.usage, 0, 0, 0));
+
+        jumpItemSettings.profiles.forEach((id, profileSettings) -> {
+            if (profileSettings.item == null || id.equals(JumpItemProfile.DEFAULT_ID)) {
+                return;
+            }
+
+            this.register(id, profileSettings);
+        });
+    }
+
+    public Optional<JumpItemProfile> get(Material material, String id) {
+        return Optional.ofNullable(this.profilesByKey.get(new ProfileKey(material, id)));
+    }
+
+    public Optional<JumpItemProfile> get(String id) {
+        return Optional.ofNullable(this.profilesById.get(id));
+    }
+
+    public JumpItemProfile getDefault() {
+        return this.profilesById.get(JumpItemProfile.DEFAULT_ID);
+    }
+
+    /**
+     * @param material the material of an item
+     * @return The profiles whose items are of the material
+     */
+    public List<JumpItemProfile> getByMaterial(Material material) {
+        return this.profilesByMaterial.getOrDefault(material, Collections.emptyList());
+    }
+
+    public boolean hasMaterial(Material material) {
+        return this.profilesByMaterial.containsKey(material);
+    }
+
+    /**
+     * @param usage the usage
+     * @return Whether any profile uses the usage
+     */
+    public boolean hasUsage(JumpItemUsage usage) {
+        return this.usages.contains(usage);
+    }
+
+    public Collection<JumpItemProfile> getProfiles() {
+        return Collections.unmodifiableCollection(this.profilesById.values());
+    }
+
+    private void register(String id, JumpItemProfileSettings profileSettings) {
+        ItemStack item = profileSettings.item;
+        String version = getItemVersion(item);
+
+        JumpItemProfile profile = new JumpItemProfile(
+                id,
+                item,
+                version,
+                profileSettings.usage,
+                profileSettings.jumpMultiple,
+                profileSettings.jumpUp,
+                profileSettings.jumpsLimit,
+                List.copyOf(profileSettings.particles)
+        );
+
+        this.profilesById.put(id, profile);
+        this.profilesByKey.put(new ProfileKey(item.getType(), id), profile);
+        this.profilesByMaterial.computeIfAbsent(item.getType(), material -> new ArrayList<>()).add(profile);
+        this.usages.add(profile.usage());
+    }
+
+    /**
+     * The version is a hash of the serialized item with sorted keys and set elements, so it does not depend on iteration order.
+     * The data version of the server is left out, items keep their version when the server is updated.
+     */
+    private static String getItemVersion(ItemStack item) {
+        Map<String, Object> values = new TreeMap<>(item.serialize());
+        values.remove("v");
+
+        StringBuilder canonicalForm = new StringBuilder();
+        appendCanonical(canonicalForm, values);
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonicalForm.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, VERSION_BYTES);
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private static void appendCanonical(StringBuilder builder, Object value) {
+        if (value instanceof ConfigurationSerializable serializable) {
+            appendCanonical(builder, serializable.serialize());
+        }
+        else if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sortedMap = new TreeMap<>();
+            map.forEach((key, mapValue) -> sortedMap.put(String.valueOf(key), mapValue));
+
+            builder.append('{');
+            sortedMap.forEach((key, mapValue) -> {
+                builder.append(key).append('=');
+                appendCanonical(builder, mapValue);
+                builder.append(';');
+            });
+            builder.append('}');
+        }
+        else if (value instanceof Set<?> set) {
+            // Sets have no order either, e.g. the item flags
+            List<String> sortedElements = new ArrayList<>();
+            set.forEach(element -> {
+                StringBuilder elementBuilder = new StringBuilder();
+                appendCanonical(elementBuilder, element);
+                sortedElements.add(elementBuilder.toString());
+            });
+            Collections.sort(sortedElements);
+
+            builder.append('[');
+            sortedElements.forEach(element -> builder.append(element).append(';'));
+            builder.append(']');
+        }
+        else if (value instanceof Collection<?> collection) {
+            builder.append('[');
+            collection.forEach(element -> {
+                appendCanonical(builder, element);
+                builder.append(';');
+            });
+            builder.append(']');
+        }
+        else {
+            builder.append(value);
+        }
+    }
+
+    private record ProfileKey(Material material, String id) {
+    }
+}
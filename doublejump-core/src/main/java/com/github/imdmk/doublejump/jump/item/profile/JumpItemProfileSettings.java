@@ -0,0 +1,44 @@
+package com.github.imdmk.doublejump.jump.item.profile;
+
+import com.github.imdmk.doublejump.jump.item.JumpItemUsage;
+import com.github.imdmk.doublejump.jump.particle.JumpParticle;
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Comment;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+public class JumpItemProfileSettings extends OkaeriConfig {
+
+    @Comment("# The item of the profile")
+    public ItemStack item;
+
+    @Comment("# The usage of the item, see usageSettings.usage for available usages")
+    public JumpItemUsage usage = JumpItemUsage.HOLD_ITEM;
+
+    @Comment("# Jump multiplier of the profile, set to 0 to use the default one")
+    public double jumpMultiple = 0;
+
+    @Comment("# The value of how much up the jump is to be made, set to 0 to use the default one")
+    public double jumpUp = 0;
+
+    @Comment({
+            "# The jump limit given when double jump mode is enabled by this item, set to 0 to use the default limits",
+            "# NOTE: Jump limits must be enabled in limitSettings"
+    })
+    public int jumpsLimit = 0;
+
+    @Comment("# Particles of the profile, leave empty to use the default ones")
+    public List<JumpParticle> particles = List.of();
+
+    public JumpItemProfileSettings() {
+    }
+
+    public JumpItemProfileSettings(ItemStack item, JumpItemUsage usage, double jumpMultiple, double jumpUp, int jumpsLimit) {
+        this.item = item;
+        this.usage = usage;
+        this.jumpMultiple = jumpMultiple;
+        this.jumpUp = jumpUp;
+        this.jumpsLimit = jumpsLimit;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.imdmk.doublejump.jump.landing;
+
+/**
+ * The predicted trajectory of a player in the air, from the tick it was predicted at until the landing.
+ */
+public final class LandingPrediction {
+
+    /**
+     * The tick of the landing of a trajectory which does not hit ground within the simulated ticks.
+     */
+    public static final long UNKNOWN_LANDING = Long.MAX_VALUE;
+
+    private static final double MAX_VERTICAL_DIVERGENCE = 0.5;
+    private static final double MAX_HORIZONTAL_DIVERGENCE_SQUARED = 1.0;
+
+    private final long launchTick;
+    private final long landingTick;
+    private final double landingY;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    private final boolean renewal;
+
+    /**
+     * @param launchTick the tick the trajectory starts at
+     * @param landingTick the tick of the landing, {@link #UNKNOWN_LANDING} if unknown
+     * @param landingY the height of the landing surface
+     * @param xs the predicted x of each tick since launch
+     * @param ys the predicted y of each tick since launch
+     * @param zs the predicted z of each tick since launch
+     * @param renewal whether the prediction replaces a prediction the player outlived
+     */
+    LandingPrediction(long launchTick, long landingTick, double landingY, double[] xs, double[] ys, double[] zs, boolean renewal) {
+        this.launchTick = launchTick;
+        this.landingTick = landingTick;
+        this.landingY = landingY;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.renewal = renewal;
+    }
+
+    public long getLandingTick() {
+        return this.landingTick;
+    }
+
+    public double getLandingY() {
+        return this.landingY;
+    }
+
+    /**
+     * @param currentTick the current tick
+     * @param ticks the number of ticks
+     * @return Whether the landing is expected within the number of ticks
+     */
+    public boolean isLandingWithin(long currentTick, int ticks) {
+        return this.landingTick != UNKNOWN_LANDING && this.landingTick - currentTick <= ticks;
+    }
+
+    /**
+     * @param currentTick the current tick
+     * @return Whether the predicted trajectory ended before the current tick, so the player outlived it
+     */
+    public boolean isExpired(long currentTick) {
+        return currentTick - this.launchTick > this.ys.length;
+    }
+
+    /**
+     * @return Whether the prediction replaces a prediction the player outlived
+     */
+    public boolean isRenewal() {
+        return this.renewal;
+    }
+
+    /**
+     * Compares the position of the player with the predicted one.
+     * Movements are not received exactly once per tick, so the neighbouring ticks are accepted as well.
+     * An expired prediction is never diverged, see {@link #isExpired(long)}.
+     *
+     * @param currentTick the current tick
+     * @param x the x of the player
+     * @param y the y of the player
+     * @param z the z of the player
+     * @return Whether the player has left the predicted trajectory
+     */
+    public boolean isDiverged(long currentTick, double x, double y, double z) {
+        if (this.isExpired(currentTick)) {
+            return false;
+        }
+
+        int tick = (int) Math.min(Integer.MAX_VALUE, currentTick - this.launchTick);
+
+        for (int index = Math.max(0, tick - 1); index <= tick + 1 && index < this.ys.length; index++) {
+            double deltaX = x - this.xs[index];
+            double deltaZ = z - this.zs[index];
+
+            if (Math.abs(y - this.ys[index]) <= MAX_VERTICAL_DIVERGENCE && deltaX * deltaX + deltaZ * deltaZ <= MAX_HORIZONTAL_DIVERGENCE_SQUARED) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.imdmk.doublejump.jump.landing;
+
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Predicts where and when players land, so movements only have to be compared with the prediction instead of reading blocks.
+ * <p>
+ * The trajectory is simulated with the air physics of the client, one step per tick,
+ * and only the blocks passed by each falling step are read from the world, no chunk is copied.
+ * Only the column under the center of the player is checked, unloaded chunks end the prediction without a landing.
+ * <p>
+ * Must only be accessed from the main server thread.
+ */
+public class LandingPredictor implements StatsProvider {
+
+    private static final double GRAVITY = 0.08;
+    private static final double VERTICAL_DRAG = 0.98;
+    private static final double HORIZONTAL_DRAG = 0.91;
+
+    private static final int MAX_SIMULATED_TICKS = 160;
+
+    private final TickClock tickClock;
+
+    private final Map<UUID, LandingPrediction> predictions = new HashMap<>();
+
+    private final LongAdder computedPredictions = new LongAdder();
+    private final LongAdder readBlocks = new LongAdder();
+
+    public LandingPredictor(TickClock tickClock) {
+        this.tickClock = tickClock;
+    }
+
+    /**
+     * Predicts the landing of a player launched from the location and replaces the previous prediction.
+     *
+     * @param uuid the uuid of the player
+     * @param location the location the player is launched from
+     * @param velocity the velocity the player is launched with, in blocks per tick
+     * @return The prediction
+     */
+    public LandingPrediction predict(UUID uuid, Location location, Vector velocity) {
+        return this.predict(uuid, location, velocity, false);
+    }
+
+    /**
+     * Predicts the landing of a player from its last movement and replaces the previous prediction.
+     *
+     * @param uuid the uuid of the player
+     * @param from the location the player moved from
+     * @param to the location the player moved to
+     * @return The prediction
+     */
+    public LandingPrediction predictFromMovement(UUID uuid, Location from, Location to) {
+        return this.predict(uuid, to, getMovementVelocity(from, to), false);
+    }
+
+    /**
+     * Predicts the landing of a player who outlived its prediction from its last movement and replaces the previous prediction.
+     * The returned prediction is a renewal, so it is not renewed again when the player outlives it as well.
+     *
+     * @param uuid the uuid of the player
+     * @param from the location the player moved from
+     * @param to the location the player moved to
+     * @return The prediction
+     */
+    public LandingPrediction renewFromMovement(UUID uuid, Location from, Location to) {
+        return this.predict(uuid, to, getMovementVelocity(from, to), true);
+    }
+
+    public Optional<LandingPrediction> getPrediction(UUID uuid) {
+        return Optional.ofNullable(this.predictions.get(uuid));
+    }
+
+    public void remove(UUID uuid) {
+        this.predictions.remove(uuid);
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Landing predictor";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("predictions", this.predictions.size());
+        stats.put("computed predictions", this.computedPredictions.sum());
+        stats.put("read blocks", this.readBlocks.sum());
+        return stats;
+    }
+
+    private LandingPrediction predict(UUID uuid, Location location, Vector velocity, boolean renewal) {
+        LandingPrediction prediction = this.simulate(location, velocity, renewal);
+
+        this.predictions.put(uuid, prediction);
+        this.computedPredictions.increment();
+
+        return prediction;
+    }
+
+    private LandingPrediction simulate(Location location, Vector velocity, boolean renewal) {
+        long currentTick = this.tickClock.getCurrentTick();
+        World world = location.getWorld();
+
+        double[] xs = new double[MAX_SIMULATED_TICKS + 1];
+        double[] ys = new double[MAX_SIMULATED_TICKS + 1];
+        double[] zs = new double[MAX_SIMULATED_TICKS + 1];
+
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+
+        double velocityX = velocity.getX();
+        double velocityY = velocity.getY();
+        double velocityZ = velocity.getZ();
+
+        xs[0] = x;
+        ys[0] = y;
+        zs[0] = z;
+
+        for (int tick = 1; tick <= MAX_SIMULATED_TICKS && world != null; tick++) {
+            x += velocityX;
+            z += velocityZ;
+
+            double nextY = y + velocityY;
+
+            if (velocityY < 0) {
+                int blockX = (int) Math.floor(x);
+                int blockZ = (int) Math.floor(z);
+
+                // Predictions never load chunks, a player cannot land in an unloaded chunk before it loads anyway
+                if (!world.isChunkLoaded(blockX >> 4, blockZ >> 4)) {
+                    break;
+                }
+
+                int lowestY = Math.max(world.getMinHeight(), (int) Math.floor(nextY));
+                for (int blockY = Math.min(world.getMaxHeight() - 1, (int) Math.floor(y) - 1); blockY >= lowestY; blockY--) {
+                    this.readBlocks.increment();
+
+                    if (isLandingSurface(world.getType(blockX, blockY, blockZ))) {
+                        xs[tick] = x;
+                        ys[tick] = blockY + 1;
+                        zs[tick] = z;
+
+                        return new LandingPrediction(currentTick, currentTick + tick, blockY + 1, Arrays.copyOf(xs, tick + 1), Arrays.copyOf(ys, tick + 1), Arrays.copyOf(zs, tick + 1), renewal);
+                    }
+                }
+
+                if (nextY < world.getMinHeight()) {
+                    break;
+                }
+            }
+
+            y = nextY;
+
+            xs[tick] = x;
+            ys[tick] = y;
+            zs[tick] = z;
+
+            velocityX *= HORIZONTAL_DRAG;
+            velocityY = (velocityY - GRAVITY) * VERTICAL_DRAG;
+            velocityZ *= HORIZONTAL_DRAG;
+        }
+
+        return new LandingPrediction(currentTick, LandingPrediction.UNKNOWN_LANDING, Double.NaN, xs, ys, zs, renewal);
+    }
+
+    private static Vector getMovementVelocity(Location from, Location to) {
+        return new Vector(
+                (to.getX() - from.getX()) * HORIZONTAL_DRAG,
+                (to.getY() - from.getY() - GRAVITY) * VERTICAL_DRAG,
+                (to.getZ() - from.getZ()) * HORIZONTAL_DRAG
+        );
+    }
+
+    private static boolean isLandingSurface(Material material) {
+        return material.isSolid() || material == Material.WATER || material == Material.LAVA;
+    }
+}
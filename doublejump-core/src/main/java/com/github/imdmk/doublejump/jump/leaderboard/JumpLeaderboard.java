@@ -0,0 +1,172 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Incremental top-K ranking of players.
+ * Updates cost O(log n), the top positions are kept as an immutable list that is only rebuilt when an update touches them,
+ * so reading a position costs O(1).
+ * The leaderboard must be modified from a single thread, the top positions can be read from any thread.
+ */
+public class JumpLeaderboard {
+
+    private static final Comparator<LeaderboardEntry> RANKING_ORDER = Comparator.comparingInt(LeaderboardEntry::value)
+            .reversed()
+            .thenComparing(LeaderboardEntry::uuid);
+
+    private final Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+    private final NavigableSet<LeaderboardEntry> ranking = new TreeSet<>(RANKING_ORDER);
+
+    private final int size;
+    private final int capacity;
+
+    private volatile List<LeaderboardEntry> top = List.of();
+
+    /**
+     * @param size The number of top positions
+     * @param capacity The maximum number of tracked entries, the lowest entry is evicted above it
+     */
+    public JumpLeaderboard(int size, int capacity) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Leaderboard size must be positive");
+        }
+
+        this.size = size;
+        this.capacity = Math.max(size, capacity);
+    }
+
+    /**
+     * Sets the value of the player.
+     *
+     * @param uuid The uuid of player
+     * @param name The name of player
+     * @param value The new value
+     */
+    public void set(UUID uuid, String name, int value) {
+        LeaderboardEntry previousEntry = this.entries.get(uuid);
+        if (previousEntry != null && previousEntry.value() == value && previousEntry.name().equals(name)) {
+            return;
+        }
+
+        boolean topChanged = previousEntry != null && this.isInTop(previousEntry);
+
+        if (previousEntry != null) {
+            this.ranking.remove(previousEntry);
+        }
+
+        LeaderboardEntry entry = new LeaderboardEntry(uuid, name, value);
+
+        this.entries.put(uuid, entry);
+        this.ranking.add(entry);
+
+        if (this.entries.size() > this.capacity) {
+            LeaderboardEntry lowestEntry = this.ranking.pollLast();
+            this.entries.remove(lowestEntry.uuid());
+
+            topChanged |= lowestEntry != entry && this.isInTop(lowestEntry);
+        }
+
+        if (topChanged || this.isInTop(entry)) {
+            this.rebuildTop();
+        }
+    }
+
+    /**
+     * Sets the value of the player only when it is higher than the current one.
+     *
+     * @param uuid The uuid of player
+     * @param name The name of player
+     * @param value The new value
+     * @return Whether the value has been set and is still on the leaderboard, a new entry below a full leaderboard is evicted right away
+     */
+    public boolean setIfHigher(UUID uuid, String name, int value) {
+        LeaderboardEntry previousEntry = this.entries.get(uuid);
+        if (previousEntry != null && previousEntry.value() >= value) {
+            return false;
+        }
+
+        this.set(uuid, name, value);
+        return this.entries.containsKey(uuid);
+    }
+
+    /**
+     * Removes the player from the leaderboard.
+     *
+     * @param uuid The uuid of player
+     */
+    public void remove(UUID uuid) {
+        LeaderboardEntry entry = this.entries.remove(uuid);
+        if (entry == null) {
+            return;
+        }
+
+        boolean wasInTop = this.isInTop(entry);
+        this.ranking.remove(entry);
+
+        if (wasInTop) {
+            this.rebuildTop();
+        }
+    }
+
+    /**
+     * @param position The position, starting from 1
+     * @return Optional entry at the given position
+     */
+    public Optional<LeaderboardEntry> get(int position) {
+        List<LeaderboardEntry> currentTop = this.top;
+
+        if (position < 1 || position > currentTop.size()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(currentTop.get(position - 1));
+    }
+
+    /**
+     * @param uuid The uuid of player
+     * @return Optional entry of the player
+     */
+    public Optional<LeaderboardEntry> getEntry(UUID uuid) {
+        return Optional.ofNullable(this.entries.get(uuid));
+    }
+
+    /**
+     * @return An immutable list of the top positions, ordered from the highest value
+     */
+    public List<LeaderboardEntry> getTop() {
+        return this.top;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    private boolean isInTop(LeaderboardEntry entry) {
+        List<LeaderboardEntry> currentTop = this.top;
+
+        if (currentTop.size() < this.size) {
+            return true;
+        }
+
+        return RANKING_ORDER.compare(entry, currentTop.get(currentTop.size() - 1)) <= 0;
+    }
+
+    private void rebuildTop() {
+        LeaderboardEntry[] newTop = new LeaderboardEntry[Math.min(this.size, this.ranking.size())];
+
+        Iterator<LeaderboardEntry> iterator = this.ranking.iterator();
+        for (int index = 0; index < newTop.length; index++) {
+            newTop[index] = iterator.next();
+        }
+
+        this.top = List.of(newTop);
+    }
+}
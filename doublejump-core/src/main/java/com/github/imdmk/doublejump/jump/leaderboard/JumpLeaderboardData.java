@@ -0,0 +1,18 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Header;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Header({
+        "#",
+        "# All-time jump streak records of the DoubleJump plugin.",
+        "# This file is managed by the plugin, do not edit it while the server is running.",
+        "#",
+})
+public class JumpLeaderboardData extends OkaeriConfig {
+
+    public List<LeaderboardEntry> records = new ArrayList<>();
+}
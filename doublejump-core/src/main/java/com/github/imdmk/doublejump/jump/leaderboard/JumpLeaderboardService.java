@@ -0,0 +1,77 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import com.github.imdmk.doublejump.stats.jfr.PersistenceFlushJfrEvent;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+public class JumpLeaderboardService {
+
+    private final JumpLeaderboardData leaderboardData;
+
+    private final JumpLeaderboard currentLeaderboard;
+    private final JumpLeaderboard bestLeaderboard;
+
+    public JumpLeaderboardService(JumpLeaderboardSettings leaderboardSettings, JumpLeaderboardData leaderboardData) {
+        this.leaderboardData = leaderboardData;
+
+        this.currentLeaderboard = new JumpLeaderboard(leaderboardSettings.size, Integer.MAX_VALUE);
+        this.bestLeaderboard = new JumpLeaderboard(leaderboardSettings.size, leaderboardSettings.size); // All-time values never decrease, so entries below the top can never return
+
+        for (LeaderboardEntry record : leaderboardData.records) {
+            this.bestLeaderboard.setIfHigher(record.uuid(), record.name(), record.value());
+        }
+    }
+
+    /**
+     * Updates the current and all-time streak of the player.
+     *
+     * @param player The player whose streak has changed
+     * @param streak The new streak
+     */
+    public void updateStreak(Player player, int streak) {
+        UUID playerUniqueId = player.getUniqueId();
+
+        if (streak <= 0) {
+            this.currentLeaderboard.remove(playerUniqueId);
+            return;
+        }
+
+        String playerName = player.getName();
+
+        this.currentLeaderboard.set(playerUniqueId, playerName, streak);
+        this.bestLeaderboard.setIfHigher(playerUniqueId, playerName, streak);
+    }
+
+    /**
+     * Removes the player from the current streak leaderboard.
+     *
+     * @param uuid The uuid of player
+     */
+    public void resetStreak(UUID uuid) {
+        this.currentLeaderboard.remove(uuid);
+    }
+
+    /**
+     * Saves all-time records to the data file.
+     * Can be called from any thread.
+     */
+    public synchronized void save() {
+        PersistenceFlushJfrEvent event = new PersistenceFlushJfrEvent();
+        event.begin();
+
+        this.leaderboardData.records = new ArrayList<>(this.bestLeaderboard.getTop());
+        this.leaderboardData.save();
+
+        event.complete("leaderboard", this.leaderboardData.records.size());
+    }
+
+    public JumpLeaderboard getCurrentLeaderboard() {
+        return this.currentLeaderboard;
+    }
+
+    public JumpLeaderboard getBestLeaderboard() {
+        return this.bestLeaderboard;
+    }
+}
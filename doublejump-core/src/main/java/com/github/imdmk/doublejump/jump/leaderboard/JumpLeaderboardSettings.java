@@ -0,0 +1,30 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Comment;
+
+import java.time.Duration;
+
+public class JumpLeaderboardSettings extends OkaeriConfig {
+
+    @Comment("# Specifies whether the jump streak leaderboards should be enabled")
+    public boolean enabled = true;
+
+    @Comment({
+            "# Specifies the number of positions on the leaderboards",
+            "# NOTE: Changing this value requires a server restart"
+    })
+    public int size = 10;
+
+    @Comment({
+            "# Specifies how often all-time records are saved to the leaderboard.yml file",
+            "# Records are always saved when the plugin is disabled"
+    })
+    public Duration saveInterval = Duration.ofMinutes(5);
+
+    @Comment("# The name returned by leaderboard placeholders when the position is empty")
+    public String emptyName = "---";
+
+    @Comment("# The value returned by leaderboard placeholders when the position is empty")
+    public String emptyValue = "0";
+}
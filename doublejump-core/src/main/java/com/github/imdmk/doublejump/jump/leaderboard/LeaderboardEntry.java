@@ -0,0 +1,6 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import java.util.UUID;
+
+public record LeaderboardEntry(UUID uuid, String name, int value) {
+}
@@ -0,0 +1,33 @@
+package com.github.imdmk.doublejump.jump.leaderboard;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.DeserializationData;
+import eu.okaeri.configs.serdes.ObjectSerializer;
+import eu.okaeri.configs.serdes.SerializationData;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.UUID;
+
+public class LeaderboardEntrySerializer implements ObjectSerializer<LeaderboardEntry> {
+
+    @Override
+    public boolean supports(@NonNull Class<? super LeaderboardEntry> type) {
+        return LeaderboardEntry.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void serialize(@NonNull LeaderboardEntry leaderboardEntry, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+        data.add("uuid", leaderboardEntry.uuid().toString(), String.class);
+        data.add("name", leaderboardEntry.name(), String.class);
+        data.add("value", leaderboardEntry.value(), Integer.class);
+    }
+
+    @Override
+    public LeaderboardEntry deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+        UUID uuid = UUID.fromString(data.get("uuid", String.class));
+        String name = data.get("name", String.class);
+        int value = data.get("value", Integer.class);
+
+        return new LeaderboardEntry(uuid, name, value);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.imdmk.doublejump.jump.leaderboard.listener;
+
+import com.github.imdmk.doublejump.jump.event.reset.JumpStreakResetEvent;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardService;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class JumpLeaderboardListener implements Listener {
+
+    private final JumpLeaderboardService leaderboardService;
+
+    public JumpLeaderboardListener(JumpLeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onJumpStreakReset(JumpStreakResetEvent event) {
+        this.leaderboardService.resetStreak(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.leaderboardService.resetStreak(event.getPlayer().getUniqueId());
+    }
+}
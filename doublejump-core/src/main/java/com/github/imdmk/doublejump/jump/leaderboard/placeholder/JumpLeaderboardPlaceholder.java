@@ -0,0 +1,84 @@
+package com.github.imdmk.doublejump.jump.leaderboard.placeholder;
+
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboard;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardService;
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboardSettings;
+import com.github.imdmk.doublejump.jump.leaderboard.LeaderboardEntry;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Formats: top_[POSITION]_name, top_[POSITION]_value for current streaks and best_[POSITION]_name, best_[POSITION]_value for all-time streaks.
+ */
+public class JumpLeaderboardPlaceholder extends PlaceholderExpansion {
+
+    private final PluginDescriptionFile pluginDescriptionFile;
+    private final Supplier<JumpLeaderboardSettings> leaderboardSettings;
+    private final JumpLeaderboardService leaderboardService;
+
+    public JumpLeaderboardPlaceholder(PluginDescriptionFile pluginDescriptionFile, Supplier<JumpLeaderboardSettings> leaderboardSettings, JumpLeaderboardService leaderboardService) {
+        this.pluginDescriptionFile = pluginDescriptionFile;
+        this.leaderboardSettings = leaderboardSettings;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public @NotNull String getIdentifier() {
+        return "jump-leaderboard";
+    }
+
+    @Override
+    public @NotNull String getAuthor() {
+        return String.join(", ", this.pluginDescriptionFile.getAuthors());
+    }
+
+    @Override
+    public @NotNull String getVersion() {
+        return this.pluginDescriptionFile.getVersion();
+    }
+
+    @Override
+    public @Nullable String onRequest(OfflinePlayer player, @NotNull String params) {
+        String[] arguments = params.split("_");
+        if (arguments.length != 3) {
+            return null;
+        }
+
+        JumpLeaderboard leaderboard = switch (arguments[0]) {
+            case "top" -> this.leaderboardService.getCurrentLeaderboard();
+            case "best" -> this.leaderboardService.getBestLeaderboard();
+            default -> null;
+        };
+
+        if (leaderboard == null) {
+            return null;
+        }
+
+        int position;
+        try {
+            position = Integer.parseInt(arguments[1]);
+        }
+        catch (NumberFormatException ignored) {
+            return null;
+        }
+
+        Optional<LeaderboardEntry> entryOptional = leaderboard.get(position);
+
+        return switch (arguments[2]) {
+            case "name" -> entryOptional
+                    .map(LeaderboardEntry::name)
+                    .orElse(this.leaderboardSettings.get().emptyName);
+            case "value" -> entryOptional
+                    .map(LeaderboardEntry::value)
+                    .map(String::valueOf)
+                    .orElse(this.leaderboardSettings.get().emptyValue);
+            default -> null;
+        };
+    }
+}
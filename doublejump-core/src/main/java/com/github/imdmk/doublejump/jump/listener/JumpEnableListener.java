@@ -1,13 +1,14 @@
 package com.github.imdmk.doublejump.jump.listener;
 
+import com.github.imdmk.doublejump.jump.JumpExecutor;
 import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpPlayerService;
 import com.github.imdmk.doublejump.jump.JumpSettings;
-import com.github.imdmk.doublejump.jump.event.DoubleJumpEvent;
 import com.github.imdmk.doublejump.jump.restriction.JumpRestrictionService;
 import com.github.imdmk.doublejump.scheduler.TaskScheduler;
-import org.bukkit.Server;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -17,76 +18,97 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerToggleFlightEvent;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class JumpEnableListener implements Listener {
 
-    private final Server server;
-    private final JumpSettings jumpSettings;
+    private final JumpExecutor jumpExecutor;
+    private final Supplier<JumpSettings> jumpSettings;
     private final JumpPlayerManager jumpPlayerManager;
     private final JumpPlayerService jumpPlayerService;
     private final JumpRestrictionService jumpRestrictionService;
     private final TaskScheduler taskScheduler;
+    private final HotPathTimer toggleFlightTimer;
+    private final HotPathTimer moveTimer;
 
-    public JumpEnableListener(Server server, JumpSettings jumpSettings, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpRestrictionService jumpRestrictionService, TaskScheduler taskScheduler) {
-        this.server = server;
+    public JumpEnableListener(JumpExecutor jumpExecutor, Supplier<JumpSettings> jumpSettings, JumpPlayerManager jumpPlayerManager, JumpPlayerService jumpPlayerService, JumpRestrictionService jumpRestrictionService, TaskScheduler taskScheduler, TimingRegistry timingRegistry) {
+        this.jumpExecutor = jumpExecutor;
         this.jumpSettings = jumpSettings;
         this.jumpPlayerManager = jumpPlayerManager;
         this.jumpPlayerService = jumpPlayerService;
         this.jumpRestrictionService = jumpRestrictionService;
         this.taskScheduler = taskScheduler;
+        this.toggleFlightTimer = timingRegistry.timer("toggle flight: jump");
+        this.moveTimer = timingRegistry.timer("move: jump enable");
     }
 
     @EventHandler
     public void onPlayerToggleFlight(PlayerToggleFlightEvent event) {
-        Player player = event.getPlayer();
+        long startNanos = this.toggleFlightTimer.start();
 
-        Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
-        if (jumpPlayerOptional.isEmpty()) {
-            return;
-        }
+        try {
+            Player player = event.getPlayer();
 
-        JumpPlayer jumpPlayer = jumpPlayerOptional.get();
+            Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
+            if (jumpPlayerOptional.isEmpty()) {
+                return;
+            }
 
-        event.setCancelled(true);
+            JumpPlayer jumpPlayer = jumpPlayerOptional.get();
 
-        player.setFlying(false);
-        player.setAllowFlight(false);
+            event.setCancelled(true);
 
-        if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
-            this.jumpPlayerService.disable(player);
-            return;
-        }
+            player.setFlying(false);
+            player.setAllowFlight(false);
 
-        if (this.jumpRestrictionService.isPassedRestrictions(player, jumpPlayer, true)) {
-            return;
-        }
+            if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
+                this.jumpPlayerService.disable(player);
+                return;
+            }
 
-        DoubleJumpEvent doubleJumpEvent = new DoubleJumpEvent(player, jumpPlayer);
+            if (this.jumpRestrictionService.isPassedRestrictions(player, jumpPlayer, true)) {
+                return;
+            }
 
-        this.server.getPluginManager().callEvent(doubleJumpEvent);
+            this.jumpExecutor.execute(player, jumpPlayer);
+        }
+        finally {
+            this.toggleFlightTimer.stop(startNanos);
+        }
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
+        long startNanos = this.moveTimer.start();
 
-        Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
-        if (jumpPlayerOptional.isEmpty()) {
-            return;
-        }
+        try {
+            Player player = event.getPlayer();
 
-        JumpPlayer jumpPlayer = jumpPlayerOptional.get();
+            Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
+            if (jumpPlayerOptional.isEmpty()) {
+                return;
+            }
 
-        if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
-            this.jumpPlayerService.disable(player);
-            return;
-        }
+            JumpPlayer jumpPlayer = jumpPlayerOptional.get();
 
-        if (this.jumpRestrictionService.isPassedRestrictions(player, jumpPlayer, true)) {
-            return;
-        }
+            if (this.jumpRestrictionService.isPassedRestrictions(player, true)) {
+                this.jumpPlayerService.disable(player);
+                return;
+            }
+
+            if (this.jumpRestrictionService.isPassedRestrictions(player, jumpPlayer, true)) {
+                return;
+            }
+
+            if (!this.jumpExecutor.hasChainJumps(player)) {
+                return;
+            }
 
-        player.setAllowFlight(true);
+            player.setAllowFlight(true);
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
+        }
     }
 
     @EventHandler
@@ -97,7 +119,7 @@ public class JumpEnableListener implements Listener {
             return;
         }
 
-        if (this.jumpSettings.enableJumpModeOnJoinForPlayers || this.jumpSettings.enableJumpModeOnJoinForAdmins && player.isOp()) {
+        if (this.jumpSettings.get().enableJumpModeOnJoinForPlayers || this.jumpSettings.get().enableJumpModeOnJoinForAdmins && player.isOp()) {
             this.taskScheduler.runLaterAsync(() -> this.jumpPlayerService.enable(player, true), 40L);
         }
     }
@@ -114,7 +136,7 @@ public class JumpEnableListener implements Listener {
             return;
         }
 
-        if (this.jumpSettings.enableJumpModeOnJoinForPlayers || this.jumpSettings.enableJumpModeOnJoinForAdmins && player.isOp()) {
+        if (this.jumpSettings.get().enableJumpModeOnJoinForPlayers || this.jumpSettings.get().enableJumpModeOnJoinForAdmins && player.isOp()) {
             this.taskScheduler.runLaterAsync(() -> this.jumpPlayerService.enable(player, true), 40L);
         }
     }
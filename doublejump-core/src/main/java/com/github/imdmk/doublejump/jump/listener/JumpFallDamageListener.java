@@ -2,86 +2,131 @@ package com.github.imdmk.doublejump.jump.listener;
 
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpSettings;
+import com.github.imdmk.doublejump.jump.ground.GroundStateTracker;
+import com.github.imdmk.doublejump.jump.landing.LandingPrediction;
+import com.github.imdmk.doublejump.jump.landing.LandingPredictor;
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.Location;
-import org.bukkit.Material;
-import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.util.Vector;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.function.Supplier;
 
 public class JumpFallDamageListener implements Listener {
 
-    private final JumpSettings jumpSettings;
+    private final Supplier<JumpSettings> jumpSettings;
     private final JumpPlayerManager jumpPlayerManager;
+    private final LandingPredictor landingPredictor;
+    private final GroundStateTracker groundStateTracker;
+    private final TickClock tickClock;
+    private final HotPathTimer damageTimer;
+    private final HotPathTimer moveTimer;
 
-    public JumpFallDamageListener(JumpSettings jumpSettings, JumpPlayerManager jumpPlayerManager) {
+    public JumpFallDamageListener(Supplier<JumpSettings> jumpSettings, JumpPlayerManager jumpPlayerManager, LandingPredictor landingPredictor, GroundStateTracker groundStateTracker, TickClock tickClock, TimingRegistry timingRegistry) {
         this.jumpSettings = jumpSettings;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.landingPredictor = landingPredictor;
+        this.groundStateTracker = groundStateTracker;
+        this.tickClock = tickClock;
+        this.damageTimer = timingRegistry.timer("damage: fall damage");
+        this.moveTimer = timingRegistry.timer("move: fall damage");
     }
 
     @EventHandler
     public void onEntityDamage(EntityDamageEvent event) {
-        if (this.jumpSettings.jumpFallDamageEnabled) {
-            return;
-        }
-
-        if (!(event.getCause() == EntityDamageEvent.DamageCause.FALL)) {
-            return;
-        }
+        long startNanos = this.damageTimer.start();
 
-        if (!(event.getEntity() instanceof Player player)) {
-            return;
-        }
+        try {
+            if (this.jumpSettings.get().jumpFallDamageEnabled) {
+                return;
+            }
 
-        if (!this.jumpPlayerManager.isDoubleJumpMode(player)) {
-            return;
-        }
-
-        event.setCancelled(true);
-    }
-
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        if (!this.jumpSettings.jumpFallDamageEnabled) {
-            return;
-        }
+            if (!(event.getCause() == EntityDamageEvent.DamageCause.FALL)) {
+                return;
+            }
 
-        Player player = event.getPlayer();
+            if (!(event.getEntity() instanceof Player player)) {
+                return;
+            }
 
-        if (player.isFlying()) {
-            return;
-        }
+            if (!this.jumpPlayerManager.isDoubleJumpMode(player)) {
+                return;
+            }
 
-        if (!this.jumpPlayerManager.isDoubleJumpMode(player)) {
-            return;
+            event.setCancelled(true);
         }
-
-        if (this.shouldTakeFallDamage(player)) {
-            player.setAllowFlight(false);
+        finally {
+            this.damageTimer.stop(startNanos);
         }
     }
 
-    private boolean shouldTakeFallDamage(Player player) {
-        if (player.getFallDistance() < 4.0F) {
-            return false;
+    /**
+     * Prevents players from cancelling fall damage with a double jump right before landing.
+     * The landing is predicted when the player jumps, movements only correct the prediction when the player leaves the predicted trajectory.
+     */
+    @EventHandler
+    public void onPlayerMove(PlayerMoveEvent event) {
+        long startNanos = this.moveTimer.start();
+
+        try {
+            if (!this.jumpSettings.get().jumpFallDamageEnabled) {
+                return;
+            }
+
+            Player player = event.getPlayer();
+
+            if (player.getFallDistance() < 4.0F) {
+                return;
+            }
+
+            if (player.isFlying()) {
+                return;
+            }
+
+            if (!this.jumpPlayerManager.isDoubleJumpMode(player)) {
+                return;
+            }
+
+            // The player has already landed, there is nothing left to predict
+            if (this.groundStateTracker.isOnGround(player)) {
+                this.landingPredictor.remove(player.getUniqueId());
+                return;
+            }
+
+            Location from = event.getFrom();
+            Location to = event.getTo();
+            if (to == null) {
+                return;
+            }
+
+            long currentTick = this.tickClock.getCurrentTick();
+
+            LandingPrediction prediction = this.landingPredictor.getPrediction(player.getUniqueId()).orElse(null);
+            if (prediction == null || prediction.isDiverged(currentTick, to.getX(), to.getY(), to.getZ())) {
+                prediction = this.landingPredictor.predictFromMovement(player.getUniqueId(), from, to);
+            }
+            else if (prediction.isExpired(currentTick) && !prediction.isRenewal()) {
+                // The player is still in the air after the predicted trajectory, predict once more instead of on every movement
+                prediction = this.landingPredictor.renewFromMovement(player.getUniqueId(), from, to);
+            }
+
+            if (prediction.isLandingWithin(currentTick, 1)) {
+                player.setAllowFlight(false);
+            }
         }
-
-        Location playerLocation = player.getLocation();
-        World playerWorld = player.getWorld();
-
-        if (playerLocation.subtract(0, 1, 0).getBlock().getType() == Material.AIR) {
-            return false;
+        finally {
+            this.moveTimer.stop(startNanos);
         }
+    }
 
-        Vector playerVelocity = player.getVelocity();
-
-        Location velocityLocation = playerLocation.add(playerVelocity);
-        Block velocityBlock = playerWorld.getBlockAt(velocityLocation);
-
-        return velocityBlock.getType() != Material.AIR;
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.landingPredictor.remove(event.getPlayer().getUniqueId());
     }
 }
@@ -4,6 +4,8 @@ import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpSettings;
 import com.github.imdmk.doublejump.notification.NotificationSender;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -11,48 +13,58 @@ import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class JumpRegenerationListener implements Listener {
 
-    private final JumpSettings jumpSettings;
+    private final Supplier<JumpSettings> jumpSettings;
     private final NotificationSender notificationSender;
     private final JumpPlayerManager jumpPlayerManager;
+    private final HotPathTimer moveTimer;
 
-    public JumpRegenerationListener(JumpSettings jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager) {
+    public JumpRegenerationListener(Supplier<JumpSettings> jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, TimingRegistry timingRegistry) {
         this.jumpSettings = jumpSettings;
         this.notificationSender = notificationSender;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.moveTimer = timingRegistry.timer("move: jump regeneration");
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (this.jumpSettings.limitSettings.regenerationDelay.isZero()) {
-            return;
-        }
+        long startNanos = this.moveTimer.start();
 
-        Player player = event.getPlayer();
+        try {
+            if (this.jumpSettings.get().limitSettings.regenerationDelay.isZero()) {
+                return;
+            }
 
-        Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
-        if (jumpPlayerOptional.isEmpty()) {
-            return;
-        }
+            Player player = event.getPlayer();
 
-        JumpPlayer jumpPlayer = jumpPlayerOptional.get();
+            Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
+            if (jumpPlayerOptional.isEmpty()) {
+                return;
+            }
 
-        if (jumpPlayer.getJumps() >= jumpPlayer.getJumpsLimit()) {
-            return;
-        }
+            JumpPlayer jumpPlayer = jumpPlayerOptional.get();
 
-        Instant now = Instant.now();
-        Instant endOfJumpsRegenerationDelay = jumpPlayer.getEndOfJumpsRegenerationDelay();
+            if (jumpPlayer.getJumps() >= jumpPlayer.getJumpsLimit()) {
+                return;
+            }
 
-        if (now.isBefore(endOfJumpsRegenerationDelay)) {
-            return;
-        }
+            Instant now = Instant.now();
+            Instant endOfJumpsRegenerationDelay = jumpPlayer.getEndOfJumpsRegenerationDelay();
 
-        jumpPlayer.addJumps(1);
-        jumpPlayer.addJumpRegenerationDelay(this.jumpSettings.limitSettings.regenerationDelay);
+            if (now.isBefore(endOfJumpsRegenerationDelay)) {
+                return;
+            }
 
-        this.notificationSender.send(player, this.jumpSettings.limitSettings.notificationSettings.jumpLimitReceived);
+            jumpPlayer.addJumps(1);
+            jumpPlayer.addJumpRegenerationDelay(this.jumpSettings.get().limitSettings.regenerationDelay);
+
+            this.notificationSender.send(player, this.jumpSettings.get().limitSettings.notificationSettings.jumpLimitReceived);
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
+        }
     }
 }
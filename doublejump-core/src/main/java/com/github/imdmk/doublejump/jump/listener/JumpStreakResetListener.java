@@ -5,11 +5,13 @@ import com.github.imdmk.doublejump.jump.JumpPlayerManager;
 import com.github.imdmk.doublejump.jump.JumpSettings;
 import com.github.imdmk.doublejump.jump.event.reset.JumpStreakResetEvent;
 import com.github.imdmk.doublejump.jump.event.reset.JumpStreakResetReason;
+import com.github.imdmk.doublejump.jump.ground.GroundStateTracker;
+import com.github.imdmk.doublejump.jump.stream.JumpRecord;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
 import com.github.imdmk.doublejump.notification.NotificationSender;
-import org.bukkit.Location;
-import org.bukkit.Material;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
+import com.github.imdmk.doublejump.stats.timing.TimingRegistry;
 import org.bukkit.Server;
-import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -17,26 +19,33 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class JumpStreakResetListener implements Listener {
 
     private final Server server;
-    private final JumpSettings jumpSettings;
+    private final Supplier<JumpSettings> jumpSettings;
     private final NotificationSender notificationSender;
     private final JumpPlayerManager jumpPlayerManager;
+    private final JumpRecordPublisher jumpRecordPublisher;
+    private final GroundStateTracker groundStateTracker;
+    private final HotPathTimer moveTimer;
 
-    public JumpStreakResetListener(Server server, JumpSettings jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager) {
+    public JumpStreakResetListener(Server server, Supplier<JumpSettings> jumpSettings, NotificationSender notificationSender, JumpPlayerManager jumpPlayerManager, JumpRecordPublisher jumpRecordPublisher, GroundStateTracker groundStateTracker, TimingRegistry timingRegistry) {
         this.server = server;
         this.jumpSettings = jumpSettings;
         this.notificationSender = notificationSender;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.jumpRecordPublisher = jumpRecordPublisher;
+        this.groundStateTracker = groundStateTracker;
+        this.moveTimer = timingRegistry.timer("move: streak reset");
     }
 
     @EventHandler
     public void onPlayerDeath(PlayerDeathEvent event) {
         Player player = event.getEntity();
 
-        if (!this.jumpSettings.streakSettings.resetOnDeath) {
+        if (!this.jumpSettings.get().streakSettings.resetOnDeath) {
             return;
         }
 
@@ -56,35 +65,35 @@ public class JumpStreakResetListener implements Listener {
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
+        long startNanos = this.moveTimer.start();
 
-        if (!this.jumpSettings.streakSettings.resetOnGround) {
-            return;
-        }
-
-        if (!this.isOnGround(player)) {
-            return;
-        }
+        try {
+            Player player = event.getPlayer();
 
-        Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
-        if (jumpPlayerOptional.isEmpty()) {
-            return;
-        }
+            if (!this.jumpSettings.get().streakSettings.resetOnGround) {
+                return;
+            }
 
-        JumpPlayer jumpPlayer = jumpPlayerOptional.get();
+            if (!this.groundStateTracker.isOnGround(player)) {
+                return;
+            }
 
-        if (jumpPlayer.getStreak() == 0) {
-            return;
-        }
+            Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
+            if (jumpPlayerOptional.isEmpty()) {
+                return;
+            }
 
-        this.resetStreak(player, jumpPlayer, JumpStreakResetReason.PLAYER_ON_GROUND);
-    }
+            JumpPlayer jumpPlayer = jumpPlayerOptional.get();
 
-    private boolean isOnGround(Player player) {
-        Location playerLocation = player.getLocation();
+            if (jumpPlayer.getStreak() == 0) {
+                return;
+            }
 
-        Material groundBlockType = playerLocation.getBlock().getRelative(BlockFace.DOWN).getType();
-        return groundBlockType != Material.AIR && groundBlockType != Material.LIGHT;
+            this.resetStreak(player, jumpPlayer, JumpStreakResetReason.PLAYER_ON_GROUND);
+        }
+        finally {
+            this.moveTimer.stop(startNanos);
+        }
     }
 
     private void resetStreak(Player player, JumpPlayer jumpPlayer, JumpStreakResetReason streakResetReason) {
@@ -96,8 +105,13 @@ public class JumpStreakResetListener implements Listener {
             return;
         }
 
+        int streak = jumpPlayer.getStreak();
         jumpPlayer.setStreak(0);
 
-        this.notificationSender.send(player, this.jumpSettings.streakSettings.notificationSettings.jumpStreakHasBeenReset);
+        if (this.jumpRecordPublisher.hasSubscribers()) {
+            this.jumpRecordPublisher.publish(new JumpRecord.StreakReset(player.getUniqueId(), System.currentTimeMillis(), streak, streakResetReason));
+        }
+
+        this.notificationSender.send(player, this.jumpSettings.get().streakSettings.notificationSettings.jumpStreakHasBeenReset);
     }
 }
@@ -1,24 +1,229 @@
 package com.github.imdmk.doublejump.jump.particle;
 
 import org.bukkit.Color;
+import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
 
-public record JumpParticle(Particle particle, Color color, int size, int count, double offsetX, double offsetY, double offsetZ,
-                           double extra) {
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+public final class JumpParticle {
+
+    private final Particle particle;
+    private final Color color;
+    private final int size;
+    private final int count;
+    private final double offsetX;
+    private final double offsetY;
+    private final double offsetZ;
+    private final double extra;
+
+    private final JumpParticleShape shape;
+    private final double radius;
+    private final int points;
+    private final double height;
+
+    private final double[] shapeOffsets;
+    private final Particle.DustOptions dustOptions;
+
+    public JumpParticle(Particle particle, Color color, int size, int count, double offsetX, double offsetY, double offsetZ, double extra, JumpParticleShape shape, double radius, int points, double height) {
+        this.particle = particle;
+        this.color = color;
+        this.size = size;
+        this.count = count;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.offsetZ = offsetZ;
+        this.extra = extra;
+        this.shape = shape;
+        this.radius = radius;
+        this.points = Math.max(1, points);
+        this.height = height;
+
+        this.shapeOffsets = shape.computeOffsets(radius, this.points, height);
+        this.dustOptions = particle.getDataType() == Void.class ? null : new Particle.DustOptions(color, size);
+    }
+
+    public JumpParticle(Particle particle, Color color, int size, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        this(particle, color, size, count, offsetX, offsetY, offsetZ, extra, JumpParticleShape.POINT, 0, 1, 0);
+    }
 
     public void spawn(Player player) {
-        if (this.particle.getDataType() == Void.class) { //Check if particle needs data
-            player.spawnParticle(this.particle, player.getLocation(), this.count);
+        this.spawn(player.getLocation(), List.of(player), 1.0);
+    }
+
+    /**
+     * Spawns a part of this particle at the location for the given viewers.
+     * Single point particles are scaled by count, shapes by skipping points.
+     *
+     * @param location the location the particle is spawned at, the yaw is used by directional shapes
+     * @param viewers the players the particle is sent to
+     * @param scale the part of particles to spawn, from 0.0 to 1.0
+     * @return the number of particles that were not spawned because of scaling
+     */
+    public int spawn(Location location, Collection<Player> viewers, double scale) {
+        int pointCount = this.getPointCount();
+        int totalParticles = pointCount * Math.max(1, this.count);
+
+        if (scale <= 0) {
+            return totalParticles;
+        }
+
+        int pointStride = this.getPointStride(scale);
+        int scaledCount = pointCount == 1 && scale < 1 ? (int) Math.ceil(this.count * scale) : this.count;
+
+        double baseX = location.getX();
+        double baseY = location.getY();
+        double baseZ = location.getZ();
+
+        double sin = 0;
+        double cos = 1;
+
+        if (this.shape.isDirectional()) {
+            double yaw = Math.toRadians(location.getYaw());
+
+            sin = Math.sin(yaw);
+            cos = Math.cos(yaw);
+        }
+
+        int spawnedParticles = 0;
+
+        for (int index = 0; index < this.shapeOffsets.length; index += 3 * pointStride) {
+            double localX = this.shapeOffsets[index];
+            double localZ = this.shapeOffsets[index + 2];
+
+            double x = baseX + localX * cos - localZ * sin;
+            double y = baseY + this.shapeOffsets[index + 1];
+            double z = baseZ + localX * sin + localZ * cos;
+
+            for (Player viewer : viewers) {
+                if (this.dustOptions == null) { //Check if particle needs data
+                    viewer.spawnParticle(this.particle, x, y, z, scaledCount);
+                }
+                else {
+                    viewer.spawnParticle(this.particle, x, y, z, scaledCount, this.offsetX, this.offsetY, this.offsetZ, this.extra, this.dustOptions);
+                }
+            }
+
+            spawnedParticles += Math.max(1, scaledCount);
+        }
+
+        return totalParticles - spawnedParticles;
+    }
+
+    /**
+     * Returns the number of packets sent to one viewer by {@link #spawn(Location, Collection, double)} with the given scale.
+     *
+     * @param scale the part of particles to spawn, from 0.0 to 1.0
+     * @return the number of spawned points
+     */
+    public int getPacketCount(double scale) {
+        if (scale <= 0) {
+            return 0;
+        }
+
+        int pointStride = this.getPointStride(scale);
+        return (this.getPointCount() + pointStride - 1) / pointStride;
+    }
+
+    private int getPointCount() {
+        return this.shapeOffsets.length / 3;
+    }
+
+    private int getPointStride(double scale) {
+        if (scale >= 1 || this.getPointCount() == 1) {
+            return 1;
         }
-        else {
-            player.spawnParticle(
-                    this.particle,
-                    player.getLocation(),
-                    this.count,
-                    this.offsetX, this.offsetY, this.offsetZ, this.extra,
-                    new Particle.DustOptions(this.color, this.size)
-            );
+
+        return (int) Math.ceil(1 / scale);
+    }
+
+    public Particle particle() {
+        return this.particle;
+    }
+
+    public Color color() {
+        return this.color;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    public double offsetX() {
+        return this.offsetX;
+    }
+
+    public double offsetY() {
+        return this.offsetY;
+    }
+
+    public double offsetZ() {
+        return this.offsetZ;
+    }
+
+    public double extra() {
+        return this.extra;
+    }
+
+    public JumpParticleShape shape() {
+        return this.shape;
+    }
+
+    public double radius() {
+        return this.radius;
+    }
+
+    public int points() {
+        return this.points;
+    }
+
+    public double height() {
+        return this.height;
+    }
+
+    /**
+     * Particles are equal when they are configured equally, the precomputed values follow from the configuration.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof JumpParticle other)) {
+            return false;
         }
+
+        return this.size == other.size
+                && this.count == other.count
+                && Double.compare(this.offsetX, other.offsetX) == 0
+                && Double.compare(this.offsetY, other.offsetY) == 0
+                && Double.compare(this.offsetZ, other.offsetZ) == 0
+                && Double.compare(this.extra, other.extra) == 0
+                && Double.compare(this.radius, other.radius) == 0
+                && this.points == other.points
+                && Double.compare(this.height, other.height) == 0
+                && this.particle == other.particle
+                && Objects.equals(this.color, other.color)
+                && this.shape == other.shape;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.particle, this.color, this.size, this.count, this.offsetX, this.offsetY, this.offsetZ, this.extra, this.shape, this.radius, this.points, this.height);
+    }
+
+    @Override
+    public String toString() {
+        return "JumpParticle[particle=" + this.particle + ", color=" + this.color + ", size=" + this.size + ", count=" + this.count
+                + ", offsetX=" + this.offsetX + ", offsetY=" + this.offsetY + ", offsetZ=" + this.offsetZ + ", extra=" + this.extra
+                + ", shape=" + this.shape + ", radius=" + this.radius + ", points=" + this.points + ", height=" + this.height + "]";
     }
 }
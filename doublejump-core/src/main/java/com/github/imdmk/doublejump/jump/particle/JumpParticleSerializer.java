@@ -26,6 +26,13 @@ public class JumpParticleSerializer implements ObjectSerializer<JumpParticle> {
         data.add("offsetY", jumpParticle.offsetY(), Double.class);
         data.add("offsetZ", jumpParticle.offsetZ(), Double.class);
         data.add("extra", jumpParticle.extra(), Double.class);
+
+        if (jumpParticle.shape() != JumpParticleShape.POINT) {
+            data.add("shape", jumpParticle.shape(), JumpParticleShape.class);
+            data.add("radius", jumpParticle.radius(), Double.class);
+            data.add("points", jumpParticle.points(), Integer.class);
+            data.add("height", jumpParticle.height(), Double.class);
+        }
     }
 
     @Override
@@ -40,6 +47,15 @@ public class JumpParticleSerializer implements ObjectSerializer<JumpParticle> {
         double offsetZ = data.get("offsetZ", Double.class);
         double extra = data.get("extra", Double.class);
 
-        return new JumpParticle(particle, color, size, count, offsetX, offsetY, offsetZ, extra);
+        if (!data.containsKey("shape")) {
+            return new JumpParticle(particle, color, size, count, offsetX, offsetY, offsetZ, extra);
+        }
+
+        JumpParticleShape shape = data.get("shape", JumpParticleShape.class);
+        double radius = data.containsKey("radius") ? data.get("radius", Double.class) : 1;
+        int points = data.containsKey("points") ? data.get("points", Integer.class) : 16;
+        double height = data.containsKey("height") ? data.get("height", Double.class) : 1;
+
+        return new JumpParticle(particle, color, size, count, offsetX, offsetY, offsetZ, extra, shape, radius, points, height);
     }
 }
@@ -15,7 +15,9 @@ public class JumpParticleSettings extends OkaeriConfig {
     @Comment({
             "# List of particles during a double jump",
             "# Available particles: https://hub.spigotmc.org/javadocs/bukkit/org/bukkit/Particle.html",
-            "# Available colors: https://hub.spigotmc.org/javadocs/bukkit/org/bukkit/Color.html"
+            "# Available colors: https://hub.spigotmc.org/javadocs/bukkit/org/bukkit/Color.html",
+            "# Optional shape keys: shape (POINT, RING, HELIX, TRAIL), radius, points, height",
+            "# Shape points are computed once when the configuration is loaded"
     })
     public List<JumpParticle> particles = List.of(
             new JumpParticle(Particle.NOTE, Color.WHITE, 20, 3, 2, 0, 0, 0),
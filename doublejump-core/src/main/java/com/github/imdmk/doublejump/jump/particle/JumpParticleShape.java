@@ -0,0 +1,107 @@
+package com.github.imdmk.doublejump.jump.particle;
+
+/**
+ * Shapes in which jump particles can be emitted.
+ * <p>
+ * Each shape produces a flat table of {@code x, y, z} offsets relative to the player,
+ * computed once when the particle is loaded from the configuration.
+ * Offsets are expressed in the player's local space, where positive {@code z} points in the looking direction.
+ */
+public enum JumpParticleShape {
+
+    /**
+     * A single point at the player location.
+     */
+    POINT(false) {
+        @Override
+        double[] computeOffsets(double radius, int points, double height) {
+            return new double[] {0, 0, 0};
+        }
+    },
+
+    /**
+     * A horizontal ring around the player.
+     */
+    RING(false) {
+        @Override
+        double[] computeOffsets(double radius, int points, double height) {
+            double[] offsets = new double[points * 3];
+
+            for (int point = 0; point < points; point++) {
+                double angle = 2 * Math.PI * point / points;
+
+                offsets[point * 3] = Math.cos(angle) * radius;
+                offsets[point * 3 + 1] = 0;
+                offsets[point * 3 + 2] = Math.sin(angle) * radius;
+            }
+
+            return offsets;
+        }
+    },
+
+    /**
+     * A helix rising around the player, making two full turns over its height.
+     */
+    HELIX(false) {
+        @Override
+        double[] computeOffsets(double radius, int points, double height) {
+            double[] offsets = new double[points * 3];
+
+            for (int point = 0; point < points; point++) {
+                double progress = points == 1 ? 0 : (double) point / (points - 1);
+                double angle = 4 * Math.PI * progress;
+
+                offsets[point * 3] = Math.cos(angle) * radius;
+                offsets[point * 3 + 1] = progress * height;
+                offsets[point * 3 + 2] = Math.sin(angle) * radius;
+            }
+
+            return offsets;
+        }
+    },
+
+    /**
+     * A trail behind and below the player, following the arc the player was launched along.
+     */
+    TRAIL(true) {
+        @Override
+        double[] computeOffsets(double radius, int points, double height) {
+            double[] offsets = new double[points * 3];
+
+            for (int point = 0; point < points; point++) {
+                double progress = points == 1 ? 0 : (double) point / (points - 1);
+
+                offsets[point * 3] = 0;
+                offsets[point * 3 + 1] = -height * progress * progress;
+                offsets[point * 3 + 2] = -radius * progress;
+            }
+
+            return offsets;
+        }
+    };
+
+    private final boolean directional;
+
+    JumpParticleShape(boolean directional) {
+        this.directional = directional;
+    }
+
+    /**
+     * Computes the offset table of this shape.
+     *
+     * @param radius the horizontal size of the shape
+     * @param points the number of points of the shape
+     * @param height the vertical size of the shape
+     * @return flat array of {@code x, y, z} offsets
+     */
+    abstract double[] computeOffsets(double radius, int points, double height);
+
+    /**
+     * Returns whether offsets of this shape have to be rotated by the player's yaw.
+     *
+     * @return true if the shape depends on the looking direction
+     */
+    public boolean isDirectional() {
+        return this.directional;
+    }
+}
@@ -2,6 +2,7 @@ package com.github.imdmk.doublejump.jump.placeholder;
 
 import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
+import com.github.imdmk.doublejump.placeholder.PlaceholderCache;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.plugin.PluginDescriptionFile;
@@ -14,10 +15,12 @@ public class JumpPlayerStreakPlaceholder extends PlaceholderExpansion {
 
     private final PluginDescriptionFile pluginDescriptionFile;
     private final JumpPlayerManager jumpPlayerManager;
+    private final PlaceholderCache placeholderCache;
 
-    public JumpPlayerStreakPlaceholder(PluginDescriptionFile pluginDescriptionFile, JumpPlayerManager jumpPlayerManager) {
+    public JumpPlayerStreakPlaceholder(PluginDescriptionFile pluginDescriptionFile, JumpPlayerManager jumpPlayerManager, PlaceholderCache placeholderCache) {
         this.pluginDescriptionFile = pluginDescriptionFile;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.placeholderCache = placeholderCache;
     }
 
     @Override
@@ -44,8 +47,11 @@ public class JumpPlayerStreakPlaceholder extends PlaceholderExpansion {
         Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
 
         return jumpPlayerOptional
-                .map(JumpPlayer::getStreak)
-                .map(String::valueOf)
+                .map(jumpPlayer -> this.placeholderCache.get(player.getUniqueId(), this.getIdentifier(), jumpPlayer, this::render))
                 .orElse(null);
     }
+
+    private String render(JumpPlayer jumpPlayer) {
+        return String.valueOf(jumpPlayer.getStreak());
+    }
 }
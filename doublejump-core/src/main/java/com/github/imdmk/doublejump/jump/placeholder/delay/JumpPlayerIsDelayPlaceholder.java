@@ -2,6 +2,7 @@ package com.github.imdmk.doublejump.jump.placeholder.delay;
 
 import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
+import com.github.imdmk.doublejump.placeholder.PlaceholderCache;
 import com.github.imdmk.doublejump.placeholder.PlaceholderSettings;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
@@ -10,17 +11,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class JumpPlayerIsDelayPlaceholder extends PlaceholderExpansion {
 
     private final PluginDescriptionFile pluginDescriptionFile;
-    private final PlaceholderSettings placeholderSettings;
+    private final Supplier<PlaceholderSettings> placeholderSettings;
     private final JumpPlayerManager jumpPlayerManager;
+    private final PlaceholderCache placeholderCache;
 
-    public JumpPlayerIsDelayPlaceholder(PluginDescriptionFile pluginDescriptionFile, PlaceholderSettings placeholderSettings, JumpPlayerManager jumpPlayerManager) {
+    public JumpPlayerIsDelayPlaceholder(PluginDescriptionFile pluginDescriptionFile, Supplier<PlaceholderSettings> placeholderSettings, JumpPlayerManager jumpPlayerManager, PlaceholderCache placeholderCache) {
         this.pluginDescriptionFile = pluginDescriptionFile;
         this.placeholderSettings = placeholderSettings;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.placeholderCache = placeholderCache;
     }
 
     @Override
@@ -47,8 +51,11 @@ public class JumpPlayerIsDelayPlaceholder extends PlaceholderExpansion {
         Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
 
         return jumpPlayerOptional
-                .map(JumpPlayer::isDelay)
-                .map(aBoolean -> aBoolean ? this.placeholderSettings.whenTrueMessage : this.placeholderSettings.whenFalseMessage)
+                .map(jumpPlayer -> this.placeholderCache.get(player.getUniqueId(), this.getIdentifier(), jumpPlayer, this::render))
                 .orElse(null);
     }
+
+    private String render(JumpPlayer jumpPlayer) {
+        return jumpPlayer.isDelay() ? this.placeholderSettings.get().whenTrueMessage : this.placeholderSettings.get().whenFalseMessage;
+    }
 }
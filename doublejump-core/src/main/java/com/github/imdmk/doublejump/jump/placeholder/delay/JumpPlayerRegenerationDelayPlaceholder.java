@@ -2,6 +2,7 @@ package com.github.imdmk.doublejump.jump.placeholder.delay;
 
 import com.github.imdmk.doublejump.jump.JumpPlayer;
 import com.github.imdmk.doublejump.jump.JumpPlayerManager;
+import com.github.imdmk.doublejump.placeholder.PlaceholderCache;
 import com.github.imdmk.doublejump.util.DurationUtil;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
@@ -15,10 +16,12 @@ public class JumpPlayerRegenerationDelayPlaceholder extends PlaceholderExpansion
 
     private final PluginDescriptionFile pluginDescriptionFile;
     private final JumpPlayerManager jumpPlayerManager;
+    private final PlaceholderCache placeholderCache;
 
-    public JumpPlayerRegenerationDelayPlaceholder(PluginDescriptionFile pluginDescriptionFile, JumpPlayerManager jumpPlayerManager) {
+    public JumpPlayerRegenerationDelayPlaceholder(PluginDescriptionFile pluginDescriptionFile, JumpPlayerManager jumpPlayerManager, PlaceholderCache placeholderCache) {
         this.pluginDescriptionFile = pluginDescriptionFile;
         this.jumpPlayerManager = jumpPlayerManager;
+        this.placeholderCache = placeholderCache;
     }
 
     @Override
@@ -45,8 +48,11 @@ public class JumpPlayerRegenerationDelayPlaceholder extends PlaceholderExpansion
         Optional<JumpPlayer> jumpPlayerOptional = this.jumpPlayerManager.getJumpPlayer(player.getUniqueId());
 
         return jumpPlayerOptional
-                .map(JumpPlayer::getRemainingJumpRegenerationDuration)
-                .map(DurationUtil::toHumanReadable)
+                .map(jumpPlayer -> this.placeholderCache.get(player.getUniqueId(), this.getIdentifier(), jumpPlayer, this::render))
                 .orElse(null);
     }
+
+    private String render(JumpPlayer jumpPlayer) {
+        return DurationUtil.toHumanReadable(jumpPlayer.getRemainingJumpRegenerationDuration());
+    }
 }
@@ -0,0 +1,25 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import com.github.imdmk.doublejump.jump.chain.JumpVelocityTable;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * A loaded jump profile.
+ *
+ * @param id the profile id
+ * @param worlds the worlds the profile applies in, empty for all worlds
+ * @param permission the required permission, empty for none
+ * @param regions the regions the profile applies in, empty for anywhere
+ * @param jumpMultiple the jump multiplier, 0 to use the default one
+ * @param jumpUp the jump height, 0 to use the default one
+ * @param delay the jump delay, zero to use the default one
+ * @param jumpsLimit the jump limit, 0 to use the default limits
+ * @param velocityTable the velocities of the jumps in a chain, compiled with the default values the profile does not override
+ */
+public record JumpProfile(String id, Set<String> worlds, String permission, Set<String> regions, double jumpMultiple, double jumpUp, Duration delay, int jumpsLimit, JumpVelocityTable velocityTable) {
+
+    public boolean isRegional() {
+        return !this.regions.isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import com.github.imdmk.doublejump.jump.chain.JumpVelocityTable;
+import com.github.imdmk.doublejump.region.RegionProvider;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches the jump profile selection of every player, so a jump does no permission checks or world name comparisons.
+ * <p>
+ * A cached selection is used while the player stays in the same world and the profile index has not been reloaded.
+ * It is invalidated when the player joins, quits or respawns, and all selections are dropped periodically
+ * to pick up permission changes.
+ */
+public class JumpProfileCache implements StatsProvider {
+
+    private final Supplier<JumpProfileIndex> profileIndex;
+    private final RegionProvider regionProvider;
+
+    private final Map<UUID, CachedSelection> selections = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JumpProfileCache(Supplier<JumpProfileIndex> profileIndex, RegionProvider regionProvider) {
+        this.profileIndex = profileIndex;
+        this.regionProvider = regionProvider;
+    }
+
+    /**
+     * @param player the player
+     * @return The jump profile applying to the player at the current location
+     */
+    public Optional<JumpProfile> resolve(Player player) {
+        JumpProfileIndex profileIndex = this.profileIndex.get();
+        if (profileIndex.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UUID worldId = player.getWorld().getUID();
+
+        CachedSelection cachedSelection = this.selections.get(player.getUniqueId());
+        if (cachedSelection == null || cachedSelection.profileIndex() != profileIndex || !cachedSelection.worldId().equals(worldId)) {
+            this.misses.increment();
+
+            cachedSelection = new CachedSelection(profileIndex, worldId, profileIndex.select(player));
+            this.selections.put(player.getUniqueId(), cachedSelection);
+        }
+        else {
+            this.hits.increment();
+        }
+
+        return cachedSelection.selection().resolve(player, this.regionProvider);
+    }
+
+    /**
+     * @return The velocity table of players without a jump profile
+     */
+    public JumpVelocityTable getDefaultVelocityTable() {
+        return this.profileIndex.get().getDefaultVelocityTable();
+    }
+
+    public void invalidate(UUID uuid) {
+        this.selections.remove(uuid);
+    }
+
+    public void invalidateAll() {
+        this.selections.clear();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Jump profile cache";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("profiles", this.profileIndex.get().getProfiles().size());
+        stats.put("cached players", this.selections.size());
+        stats.put("hits", this.hits.sum());
+        stats.put("misses", this.misses.sum());
+        return stats;
+    }
+
+    private record CachedSelection(JumpProfileIndex profileIndex, UUID worldId, JumpProfileSelection selection) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+public class JumpProfileCacheListener implements Listener {
+
+    private final JumpProfileCache profileCache;
+
+    public JumpProfileCacheListener(JumpProfileCache profileCache) {
+        this.profileCache = profileCache;
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        this.profileCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        this.profileCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.profileCache.invalidate(event.getPlayer().getUniqueId());
+    }
+}
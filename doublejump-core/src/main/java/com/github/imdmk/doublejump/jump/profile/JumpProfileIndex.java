@@ -0,0 +1,132 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import com.github.imdmk.doublejump.jump.JumpSettings;
+import com.github.imdmk.doublejump.jump.chain.JumpVelocityTable;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jump profiles compiled into a lookup table keyed by world id and permission tier.
+ * <p>
+ * The permission tier of a player is the set of distinct profile permissions the player has,
+ * so the profiles of a world and tier are filtered only once and every later lookup is a single hash lookup.
+ * Worlds are matched by name once per world id, as worlds may be loaded after the configuration.
+ * The velocity table of every profile is compiled here as well, so jumps never compute stage velocities.
+ */
+public class JumpProfileIndex {
+
+    private final List<JumpProfile> profiles = new ArrayList<>();
+    private final List<String> permissions;
+    private final JumpVelocityTable defaultVelocityTable;
+
+    private final Map<SelectionKey, JumpProfileSelection> selections = new ConcurrentHashMap<>();
+
+    public JumpProfileIndex(JumpSettings jumpSettings) {
+        boolean chainsEnabled = jumpSettings.chainSettings.enabled;
+        List<Double> defaultStageMultipliers = jumpSettings.chainSettings.stageMultipliers;
+
+        this.defaultVelocityTable = JumpVelocityTable.compile(jumpSettings.jumpMultiple, jumpSettings.jumpUp, defaultStageMultipliers, chainsEnabled);
+
+        Set<String> permissions = new LinkedHashSet<>();
+
+        jumpSettings.profiles.forEach((id, settings) -> {
+            String permission = settings.permission == null ? "" : settings.permission;
+
+            JumpVelocityTable velocityTable = JumpVelocityTable.compile(
+                    settings.jumpMultiple > 0 ? settings.jumpMultiple : jumpSettings.jumpMultiple,
+                    settings.jumpUp > 0 ? settings.jumpUp : jumpSettings.jumpUp,
+                    settings.stageMultipliers.isEmpty() ? defaultStageMultipliers : settings.stageMultipliers,
+                    chainsEnabled
+            );
+
+            this.profiles.add(new JumpProfile(
+                    id,
+                    Set.copyOf(settings.worlds),
+                    permission,
+                    Set.copyOf(settings.regions),
+                    settings.jumpMultiple,
+                    settings.jumpUp,
+                    settings.delay,
+                    settings.jumpsLimit,
+                    velocityTable
+            ));
+
+            if (!permission.isEmpty()) {
+                permissions.add(permission);
+            }
+        });
+
+        this.permissions = List.copyOf(permissions);
+    }
+
+    public boolean isEmpty() {
+        return this.profiles.isEmpty();
+    }
+
+    /**
+     * Checks the profile permissions of the player and selects the profiles of the world and permission tier.
+     *
+     * @param player the player
+     * @return The candidate profiles of the player
+     */
+    public JumpProfileSelection select(Player player) {
+        if (this.profiles.isEmpty()) {
+            return JumpProfileSelection.EMPTY;
+        }
+
+        BitSet permissionTier = new BitSet(this.permissions.size());
+        for (int index = 0; index < this.permissions.size(); index++) {
+            if (player.hasPermission(this.permissions.get(index))) {
+                permissionTier.set(index);
+            }
+        }
+
+        World world = player.getWorld();
+        return this.selections.computeIfAbsent(new SelectionKey(world.getUID(), permissionTier), key -> this.compile(world.getName(), permissionTier));
+    }
+
+    /**
+     * @return The velocity table of players without a jump profile
+     */
+    public JumpVelocityTable getDefaultVelocityTable() {
+        return this.defaultVelocityTable;
+    }
+
+    public List<JumpProfile> getProfiles() {
+        return List.copyOf(this.profiles);
+    }
+
+    private JumpProfileSelection compile(String worldName, BitSet permissionTier) {
+        List<JumpProfile> candidates = new ArrayList<>();
+
+        for (JumpProfile profile : this.profiles) {
+            if (!profile.worlds().isEmpty() && !profile.worlds().contains(worldName)) {
+                continue;
+            }
+
+            if (!profile.permission().isEmpty() && !permissionTier.get(this.permissions.indexOf(profile.permission()))) {
+                continue;
+            }
+
+            candidates.add(profile);
+
+            if (!profile.isRegional()) {
+                break;
+            }
+        }
+
+        return candidates.isEmpty() ? JumpProfileSelection.EMPTY : new JumpProfileSelection(List.copyOf(candidates));
+    }
+
+    private record SelectionKey(UUID worldId, BitSet permissionTier) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import com.github.imdmk.doublejump.region.RegionProvider;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The profiles that may apply to a player in a world with a permission tier, in order of precedence.
+ * Only the last profile may apply regardless of the region, the ones before it are regional.
+ *
+ * @param candidates the candidate profiles
+ */
+public record JumpProfileSelection(List<JumpProfile> candidates) {
+
+    public static final JumpProfileSelection EMPTY = new JumpProfileSelection(List.of());
+
+    /**
+     * @param player the player
+     * @param regionProvider the provider of the regions of the player, only queried if a regional profile is a candidate
+     * @return The profile applying to the player at the current location
+     */
+    public Optional<JumpProfile> resolve(Player player, RegionProvider regionProvider) {
+        Set<String> regions = null;
+
+        for (JumpProfile candidate : this.candidates) {
+            if (!candidate.isRegional()) {
+                return Optional.of(candidate);
+            }
+
+            if (regions == null) {
+                regions = regionProvider.getRegions(player);
+            }
+
+            for (String region : candidate.regions()) {
+                if (regions.contains(region)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+}
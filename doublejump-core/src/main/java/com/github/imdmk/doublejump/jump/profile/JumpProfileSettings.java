@@ -0,0 +1,46 @@
+package com.github.imdmk.doublejump.jump.profile;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Comment;
+
+import java.time.Duration;
+import java.util.List;
+
+public class JumpProfileSettings extends OkaeriConfig {
+
+    @Comment("# The worlds the profile applies in, leave empty for all worlds")
+    public List<String> worlds = List.of();
+
+    @Comment("# The permission required for the profile, leave empty to apply it to everyone")
+    public String permission = "";
+
+    @Comment({
+            "# The WorldGuard regions the profile applies in, leave empty for anywhere",
+            "# NOTE: Requires WorldGuard"
+    })
+    public List<String> regions = List.of();
+
+    @Comment("# Jump multiplier of the profile, set to 0 to use the default one")
+    public double jumpMultiple = 0;
+
+    @Comment("# The value of how much up the jump is to be made, set to 0 to use the default one")
+    public double jumpUp = 0;
+
+    @Comment({
+            "# The velocity multipliers of the jumps in an air jump chain, leave empty to use the default ones",
+            "# NOTE: Jump chains must be enabled in chainSettings"
+    })
+    public List<Double> stageMultipliers = List.of();
+
+    @Comment({
+            "# The double jump delay of the profile, set to 0s to use the default one",
+            "# NOTE: Jump delay must be enabled in delaySettings"
+    })
+    public Duration delay = Duration.ZERO;
+
+    @Comment({
+            "# The jump limit given when double jump mode is enabled with this profile, set to 0 to use the default limits",
+            "# NOTE: Jump limits must be enabled in limitSettings"
+    })
+    public int jumpsLimit = 0;
+}
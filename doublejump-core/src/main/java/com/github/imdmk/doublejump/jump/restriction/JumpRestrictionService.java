@@ -5,19 +5,22 @@ import com.github.imdmk.doublejump.jump.JumpSettings;
 import com.github.imdmk.doublejump.notification.Notification;
 import com.github.imdmk.doublejump.notification.NotificationSender;
 import com.github.imdmk.doublejump.region.RegionProvider;
+import com.github.imdmk.doublejump.stats.jfr.RestrictionEvaluatedJfrEvent;
 import com.github.imdmk.doublejump.text.Formatter;
 import com.github.imdmk.doublejump.util.DurationUtil;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.function.Supplier;
+
 public class JumpRestrictionService {
 
-    private final JumpSettings jumpSettings;
-    private final JumpRestrictionSettings restrictionSettings;
+    private final Supplier<JumpSettings> jumpSettings;
+    private final Supplier<JumpRestrictionSettings> restrictionSettings;
     private final RegionProvider regionProvider;
     private final NotificationSender notificationSender;
 
-    public JumpRestrictionService(JumpSettings jumpSettings, JumpRestrictionSettings restrictionSettings, RegionProvider regionProvider, NotificationSender notificationSender) {
+    public JumpRestrictionService(Supplier<JumpSettings> jumpSettings, Supplier<JumpRestrictionSettings> restrictionSettings, RegionProvider regionProvider, NotificationSender notificationSender) {
         this.jumpSettings = jumpSettings;
         this.restrictionSettings = restrictionSettings;
         this.regionProvider = regionProvider;
@@ -25,87 +28,98 @@ public class JumpRestrictionService {
     }
 
     public boolean isPassedRestrictions(Player player, JumpPlayer jumpPlayer, boolean sendNotification) {
+        RestrictionEvaluatedJfrEvent event = new RestrictionEvaluatedJfrEvent();
+        event.begin();
+
+        Restriction restriction = this.evaluate(player, jumpPlayer, sendNotification);
+
+        event.complete(player, restriction.name());
+        return restriction != Restriction.NONE;
+    }
+
+    public boolean isPassedRestrictions(Player player, boolean sendNotification) {
+        RestrictionEvaluatedJfrEvent event = new RestrictionEvaluatedJfrEvent();
+        event.begin();
+
+        Restriction restriction = this.evaluate(player, player, sendNotification, false);
+
+        event.complete(player, restriction.name());
+        return restriction != Restriction.NONE;
+    }
+
+    public boolean isPassedRestrictions(CommandSender sender, Player target, boolean sendNotification) {
+        RestrictionEvaluatedJfrEvent event = new RestrictionEvaluatedJfrEvent();
+        event.begin();
+
+        Restriction restriction = this.evaluate(sender, target, sendNotification, true);
+
+        event.complete(target, restriction.name());
+        return restriction != Restriction.NONE;
+    }
+
+    private Restriction evaluate(Player player, JumpPlayer jumpPlayer, boolean sendNotification) {
         if (jumpPlayer.isDelay()) {
             if (jumpPlayer.isDelayNotificationReceived()) {
-                return true;
+                return Restriction.DELAY;
             }
 
             Formatter formatter = new Formatter()
                     .placeholder("{TIME}", DurationUtil.toHumanReadable(jumpPlayer.getRemainingDelayDuration()));
 
             jumpPlayer.setDelayNotificationReceived(true);
-            this.sendNotification(player, this.jumpSettings.notificationSettings.jumpDelay, formatter, sendNotification);
+            this.sendNotification(player, this.jumpSettings.get().notificationSettings.jumpDelay, formatter, sendNotification);
 
-            return true;
+            return Restriction.DELAY;
         }
 
         if (!jumpPlayer.hasJumps()) {
             if (jumpPlayer.isJumpsNotificationReceived()) {
-                return true;
+                return Restriction.JUMP_LIMIT;
             }
 
-            if (this.jumpSettings.limitSettings.regenerationDelay.isZero()) {
+            if (this.jumpSettings.get().limitSettings.regenerationDelay.isZero()) {
                 jumpPlayer.setJumpsNotificationReceived(true);
-                this.sendNotification(player, this.jumpSettings.limitSettings.notificationSettings.jumpLimit, sendNotification);
+                this.sendNotification(player, this.jumpSettings.get().limitSettings.notificationSettings.jumpLimit, sendNotification);
 
-                return true;
+                return Restriction.JUMP_LIMIT;
             }
 
             Formatter formatter = new Formatter()
                     .placeholder("{TIME}", DurationUtil.toHumanReadable(jumpPlayer.getRemainingJumpRegenerationDuration()));
 
             jumpPlayer.setJumpsNotificationReceived(true);
-            this.sendNotification(player, this.jumpSettings.limitSettings.notificationSettings.jumpLimitRegenerationDelay, formatter, sendNotification);
+            this.sendNotification(player, this.jumpSettings.get().limitSettings.notificationSettings.jumpLimitRegenerationDelay, formatter, sendNotification);
 
-            return true;
+            return Restriction.JUMP_LIMIT;
         }
 
         jumpPlayer.setDelayNotificationReceived(false);
         jumpPlayer.setJumpsNotificationReceived(false);
 
-        return false;
+        return Restriction.NONE;
     }
 
-    public boolean isPassedRestrictions(Player player, boolean sendNotification) {
-        if (!this.regionProvider.isInAllowedRegion(player)) {
-            this.sendNotification(player, this.restrictionSettings.notificationSettings.jumpDisabledRegion, sendNotification);
-            return true;
-        }
+    private Restriction evaluate(CommandSender sender, Player target, boolean sendNotification, boolean targetNotifications) {
+        JumpRestrictionSettings.JumpRestrictionNotificationSettings notificationSettings = this.restrictionSettings.get().notificationSettings;
 
-        String playerGameModeName = player.getGameMode().name();
-        if (!this.restrictionSettings.gameModeRestriction.isAllowed(playerGameModeName)) {
-            this.sendNotification(player, this.restrictionSettings.notificationSettings.jumpDisabledGameMode, sendNotification);
-            return true;
-        }
-
-        String playerWorldName = player.getWorld().getName();
-        if (!this.restrictionSettings.worldRestriction.isAllowed(playerWorldName)) {
-            this.sendNotification(player, this.restrictionSettings.notificationSettings.jumpDisabledWorld, sendNotification);
-            return true;
-        }
-
-        return false;
-    }
-
-    public boolean isPassedRestrictions(CommandSender sender, Player target, boolean sendNotification) {
         if (!this.regionProvider.isInAllowedRegion(target)) {
-            this.sendNotification(sender, this.restrictionSettings.notificationSettings.targetInDisabledRegion, sendNotification);
-            return true;
+            this.sendNotification(sender, targetNotifications ? notificationSettings.targetInDisabledRegion : notificationSettings.jumpDisabledRegion, sendNotification);
+            return Restriction.REGION;
         }
 
-        String targetGameMode = target.getGameMode().name();
-        if (!this.restrictionSettings.gameModeRestriction.isAllowed(targetGameMode)) {
-            this.sendNotification(sender, this.restrictionSettings.notificationSettings.targetHasDisabledGameMode, sendNotification);
-            return true;
+        String gameModeName = target.getGameMode().name();
+        if (!this.restrictionSettings.get().gameModeRestriction.isAllowed(gameModeName)) {
+            this.sendNotification(sender, targetNotifications ? notificationSettings.targetHasDisabledGameMode : notificationSettings.jumpDisabledGameMode, sendNotification);
+            return Restriction.GAME_MODE;
         }
 
-        String targetWorld = target.getWorld().getName();
-        if (!this.restrictionSettings.worldRestriction.isAllowed(targetWorld)) {
-            this.sendNotification(sender, this.restrictionSettings.notificationSettings.targetInDisabledWorld, sendNotification);
-            return true;
+        String worldName = target.getWorld().getName();
+        if (!this.restrictionSettings.get().worldRestriction.isAllowed(worldName)) {
+            this.sendNotification(sender, targetNotifications ? notificationSettings.targetInDisabledWorld : notificationSettings.jumpDisabledWorld, sendNotification);
+            return Restriction.WORLD;
         }
 
-        return false;
+        return Restriction.NONE;
     }
 
     private void sendNotification(CommandSender sender, Notification notification, boolean send) {
@@ -119,4 +133,13 @@ public class JumpRestrictionService {
             this.notificationSender.send(sender, notification, formatter);
         }
     }
+
+    private enum Restriction {
+        NONE,
+        DELAY,
+        JUMP_LIMIT,
+        REGION,
+        GAME_MODE,
+        WORLD
+    }
 }
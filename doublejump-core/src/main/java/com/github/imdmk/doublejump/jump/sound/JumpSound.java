@@ -1,5 +1,6 @@
 package com.github.imdmk.doublejump.jump.sound;
 
+import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
@@ -8,4 +9,8 @@ public record JumpSound(Sound sound, float volume, float pitch) {
     public void play(Player player) {
         player.playSound(player, this.sound, this.volume, this.pitch);
     }
+
+    public void play(Player player, Location location) {
+        player.playSound(location, this.sound, this.volume, this.pitch);
+    }
 }
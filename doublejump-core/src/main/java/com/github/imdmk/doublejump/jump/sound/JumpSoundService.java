@@ -1,44 +1,58 @@
 package com.github.imdmk.doublejump.jump.sound;
 
-import com.github.imdmk.doublejump.configuration.implementation.PluginConfiguration;
-import org.bukkit.entity.Entity;
+import com.github.imdmk.doublejump.jump.effect.EffectScheduler;
+import com.github.imdmk.doublejump.jump.effect.EffectViewerResolver;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 public class JumpSoundService {
 
-    private final JumpSoundSettings jumpSoundSettings;
+    private final Supplier<JumpSoundSettings> jumpSoundSettings;
+    private final EffectViewerResolver effectViewerResolver;
+    private final EffectScheduler effectScheduler;
 
-    public JumpSoundService(PluginConfiguration pluginConfiguration) {
-        this.jumpSoundSettings = pluginConfiguration.jumpSettings.soundSettings;
+    public JumpSoundService(Supplier<JumpSoundSettings> jumpSoundSettings, EffectViewerResolver effectViewerResolver, EffectScheduler effectScheduler) {
+        this.jumpSoundSettings = jumpSoundSettings;
+        this.effectViewerResolver = effectViewerResolver;
+        this.effectScheduler = effectScheduler;
     }
 
     public void play(Player player) {
-        this.jumpSoundSettings.sounds.forEach(sound -> sound.play(player));
+        this.schedule(player, player, player.getLocation().clone());
     }
 
     public void playNearby(Player player) {
-        double nearbyX = this.jumpSoundSettings.playNearbyX;
-        double nearbyY = this.jumpSoundSettings.playNearbyY;
-        double nearbyZ = this.jumpSoundSettings.playNearbyZ;
+        Location location = player.getLocation().clone();
 
-        List<Entity> nearbyEntities = player.getNearbyEntities(nearbyX, nearbyY, nearbyZ);
+        for (Player other : this.effectViewerResolver.resolve(player, this.jumpSoundSettings.get().playNearbyRadius)) {
+            if (other.equals(player)) {
+                continue;
+            }
+
+            this.schedule(player, other, location);
+        }
+    }
+
+    private void schedule(Player owner, Player listener, Location location) {
+        List<JumpSound> sounds = this.jumpSoundSettings.get().sounds;
 
-        for (Entity entity : nearbyEntities) {
-            if (!(entity instanceof Player other)) {
+        this.effectScheduler.submit(owner, sounds.size(), () -> {
+            if (!listener.isOnline()) {
                 return;
             }
 
-            this.play(other);
-        }
+            sounds.forEach(sound -> sound.play(listener, location));
+        });
     }
 
     public boolean isSoundsEnabled() {
-        return this.jumpSoundSettings.enabled;
+        return this.jumpSoundSettings.get().enabled;
     }
 
     public boolean isPlayNearbyEnabled() {
-        return this.jumpSoundSettings.playNearbyEnabled;
+        return this.jumpSoundSettings.get().playNearbyEnabled;
     }
 }
@@ -14,14 +14,8 @@ public class JumpSoundSettings extends OkaeriConfig {
     @Comment("# Specifies whether nearby players should hear the jump sound")
     public boolean playNearbyEnabled = true;
 
-    @Comment("# Specifies the distance in X coordinates at which the jump sound should be played")
-    public double playNearbyX = 5;
-
-    @Comment("# Specifies the distance in Y coordinates at which the jump sound should be played")
-    public double playNearbyY = 5;
-
-    @Comment("# Specifies the distance in Z coordinates at which the jump sound should be played")
-    public double playNearbyZ = 5;
+    @Comment({"# Specifies the radius in blocks around the jumping player in which nearby players hear the jump sound", "# Only players are taken into account, other entities are never scanned"})
+    public double playNearbyRadius = 5;
 
     @Comment("# List of available sounds: https://hub.spigotmc.org/javadocs/bukkit/org/bukkit/Sound.html")
     public List<JumpSound> sounds = List.of(
@@ -1,5 +1,7 @@
 package com.github.imdmk.doublejump.notification;
 
+import com.github.imdmk.doublejump.stats.jfr.NotificationRenderedJfrEvent;
+import com.github.imdmk.doublejump.stats.timing.HotPathTimer;
 import com.github.imdmk.doublejump.text.Formatter;
 import com.github.imdmk.doublejump.util.ComponentUtil;
 import net.kyori.adventure.audience.Audience;
@@ -12,9 +14,15 @@ import org.bukkit.entity.Player;
 public class NotificationSender {
 
     private final AudienceProvider audienceProvider;
+    private final HotPathTimer sendTimer;
 
     public NotificationSender(AudienceProvider audienceProvider) {
+        this(audienceProvider, HotPathTimer.NOOP);
+    }
+
+    public NotificationSender(AudienceProvider audienceProvider, HotPathTimer sendTimer) {
         this.audienceProvider = audienceProvider;
+        this.sendTimer = sendTimer;
     }
 
     public void send(CommandSender sender, Notification notification, Formatter formatter) {
@@ -32,26 +40,37 @@ public class NotificationSender {
     }
 
     public void send(CommandSender sender, NotificationType type, String message) {
-        Audience audience = this.createAudience(sender);
+        NotificationRenderedJfrEvent event = new NotificationRenderedJfrEvent();
+        event.begin();
 
-        Component deserializedMessage = ComponentUtil.deserialize(message);
+        long startNanos = this.sendTimer.start();
 
-        switch (type) {
-            case CHAT -> audience.sendMessage(deserializedMessage);
-            case ACTIONBAR -> audience.sendActionBar(deserializedMessage);
-            case TITLE -> {
-                Title title = Title.title(deserializedMessage, Component.empty(), Title.DEFAULT_TIMES);
+        try {
+            Audience audience = this.createAudience(sender);
 
-                audience.showTitle(title);
-            }
-            case SUBTITLE -> {
-                Title subtitle = Title.title(Component.empty(), deserializedMessage, Title.DEFAULT_TIMES);
+            Component deserializedMessage = ComponentUtil.deserialize(message);
 
-                audience.showTitle(subtitle);
-            }
-            case DISABLED -> {
+            switch (type) {
+                case CHAT -> audience.sendMessage(deserializedMessage);
+                case ACTIONBAR -> audience.sendActionBar(deserializedMessage);
+                case TITLE -> {
+                    Title title = Title.title(deserializedMessage, Component.empty(), Title.DEFAULT_TIMES);
+
+                    audience.showTitle(title);
+                }
+                case SUBTITLE -> {
+                    Title subtitle = Title.title(Component.empty(), deserializedMessage, Title.DEFAULT_TIMES);
+
+                    audience.showTitle(subtitle);
+                }
+                case DISABLED -> {
+                }
+                default -> throw new IllegalStateException("Unexpected notification type: " + type);
             }
-            default -> throw new IllegalStateException("Unexpected notification type: " + type);
+        }
+        finally {
+            this.sendTimer.stop(startNanos);
+            event.complete(sender, type.name(), message);
         }
     }
 
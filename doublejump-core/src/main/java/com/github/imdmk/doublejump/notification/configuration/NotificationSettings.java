@@ -24,4 +24,13 @@ public class NotificationSettings extends OkaeriConfig {
             "# Used when there is more than one option for using a command"
     })
     public Notification invalidUsageList = new Notification(NotificationType.CHAT, "<dark_gray>- <red>{USAGE}");
+
+    @Comment("# {NAME} - The name of the statistics component")
+    public Notification statsHeader = new Notification(NotificationType.CHAT, "<dark_gray>[<gold>{NAME}<dark_gray>]");
+
+    @Comment({
+            "# {KEY} - The name of the statistic",
+            "# {VALUE} - The value of the statistic"
+    })
+    public Notification statsEntry = new Notification(NotificationType.CHAT, "<dark_gray>- <gray>{KEY}: <white>{VALUE}");
 }
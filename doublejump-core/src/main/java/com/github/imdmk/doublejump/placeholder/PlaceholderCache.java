@@ -0,0 +1,126 @@
+package com.github.imdmk.doublejump.placeholder;
+
+import com.github.imdmk.doublejump.jump.JumpPlayer;
+import com.github.imdmk.doublejump.scheduler.TickClock;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches rendered placeholder values per player.
+ * A value stays valid for the tick it was rendered in (or the configured TTL), as long as the jump player has not been modified
+ * and none of its deadlines have passed in the meantime.
+ */
+public class PlaceholderCache implements StatsProvider {
+
+    private final Map<UUID, Map<String, CachedValue>> cachedValues = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final Supplier<PlaceholderSettings> placeholderSettings;
+    private final TickClock tickClock;
+
+    public PlaceholderCache(Supplier<PlaceholderSettings> placeholderSettings, TickClock tickClock) {
+        this.placeholderSettings = placeholderSettings;
+        this.tickClock = tickClock;
+    }
+
+    /**
+     * Gets the cached value of the placeholder or renders it when the cached one is stale.
+     *
+     * @param uuid The uuid of player
+     * @param identifier The placeholder identifier
+     * @param jumpPlayer The jump player the value is rendered from
+     * @param renderer The function rendering the value
+     * @return The rendered value, may be null
+     */
+    public String get(UUID uuid, String identifier, JumpPlayer jumpPlayer, Function<JumpPlayer, String> renderer) {
+        if (!this.placeholderSettings.get().cacheEnabled) {
+            return renderer.apply(jumpPlayer);
+        }
+
+        long currentTick = this.tickClock.getCurrentTick();
+        long now = System.currentTimeMillis();
+
+        Map<String, CachedValue> playerValues = this.cachedValues.computeIfAbsent(uuid, key -> new ConcurrentHashMap<>());
+
+        CachedValue cachedValue = playerValues.get(identifier);
+        if (cachedValue != null && cachedValue.isValid(jumpPlayer, currentTick, this.placeholderSettings.get().cacheTicks, now)) {
+            this.hits.increment();
+            return cachedValue.value();
+        }
+
+        this.misses.increment();
+
+        String value = renderer.apply(jumpPlayer);
+        playerValues.put(identifier, new CachedValue(jumpPlayer, value, currentTick, jumpPlayer.getModificationCount(), this.getNextDeadline(jumpPlayer, now)));
+
+        return value;
+    }
+
+    public void invalidate(UUID uuid) {
+        this.cachedValues.remove(uuid);
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Placeholder cache";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long hitCount = this.getHits();
+        long missCount = this.getMisses();
+        long requestCount = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", this.placeholderSettings.get().cacheEnabled);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hit ratio", requestCount == 0 ? "0%" : (hitCount * 100 / requestCount) + "%");
+        stats.put("cached players", this.cachedValues.size());
+        return stats;
+    }
+
+    private long getNextDeadline(JumpPlayer jumpPlayer, long now) {
+        long endOfDelay = this.toFutureMillis(jumpPlayer.getEndOfDelay(), now);
+        long endOfJumpsRegenerationDelay = this.toFutureMillis(jumpPlayer.getEndOfJumpsRegenerationDelay(), now);
+
+        return Math.min(endOfDelay, endOfJumpsRegenerationDelay);
+    }
+
+    private long toFutureMillis(Instant deadline, long now) {
+        if (deadline.equals(Instant.MIN)) {
+            return Long.MAX_VALUE;
+        }
+
+        long deadlineMillis = deadline.toEpochMilli();
+        return deadlineMillis > now ? deadlineMillis : Long.MAX_VALUE;
+    }
+
+    private record CachedValue(JumpPlayer owner, String value, long tick, int modificationCount, long nextDeadline) {
+
+        boolean isValid(JumpPlayer jumpPlayer, long currentTick, int cacheTicks, long now) {
+            return this.owner == jumpPlayer
+                    && this.modificationCount == jumpPlayer.getModificationCount()
+                    && currentTick - this.tick <= cacheTicks
+                    && now < this.nextDeadline;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.imdmk.doublejump.placeholder;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlaceholderCacheListener implements Listener {
+
+    private final PlaceholderCache placeholderCache;
+
+    public PlaceholderCacheListener(PlaceholderCache placeholderCache) {
+        this.placeholderCache = placeholderCache;
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.placeholderCache.invalidate(event.getPlayer().getUniqueId());
+    }
+}
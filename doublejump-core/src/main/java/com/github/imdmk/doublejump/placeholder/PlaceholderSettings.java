@@ -20,4 +20,17 @@ public class PlaceholderSettings extends OkaeriConfig {
             "# Placeholder 'jump-player-is-delay' will return 'Cooldown' when player have delay"
     })
     public String whenFalseMessage = "no";
+
+    @Comment({
+            "# Specifies whether rendered placeholder values should be cached per player",
+            "# Useful when scoreboard, tab-list or hologram plugins request the same placeholders several times per tick"
+    })
+    public boolean cacheEnabled = true;
+
+    @Comment({
+            "# Specifies for how many ticks a cached placeholder value can be reused",
+            "# 0 reuses the value only within the tick it was rendered in",
+            "# A cached value is always refreshed when the jump player changes or one of its delays ends"
+    })
+    public int cacheTicks = 0;
 }
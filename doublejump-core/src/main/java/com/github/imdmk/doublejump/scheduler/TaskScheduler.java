@@ -8,5 +8,7 @@ public interface TaskScheduler {
 
     void runLaterAsync(Runnable runnable, long delay);
 
+    void runTimer(Runnable runnable, long delay, long period);
+
     void runTimerAsync(Runnable runnable, long delay, long period);
 }
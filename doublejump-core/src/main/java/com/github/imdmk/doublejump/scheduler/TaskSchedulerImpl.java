@@ -28,6 +28,11 @@ public final class TaskSchedulerImpl implements TaskScheduler {
         this.server.getScheduler().runTaskLaterAsynchronously(this.plugin, runnable, delay);
     }
 
+    @Override
+    public void runTimer(Runnable runnable, long delay, long period) {
+        this.server.getScheduler().runTaskTimer(this.plugin, runnable, delay, period);
+    }
+
     @Override
     public void runTimerAsync(Runnable runnable, long delay, long period) {
         this.server.getScheduler().runTaskTimerAsynchronously(this.plugin, runnable, delay, period);
@@ -0,0 +1,19 @@
+package com.github.imdmk.doublejump.scheduler;
+
+/**
+ * Counts server ticks, so values can be scoped to a tick without asking the server for it.
+ * Must be scheduled to run every tick on the main thread.
+ */
+public class TickClock implements Runnable {
+
+    private volatile long currentTick;
+
+    @Override
+    public void run() {
+        this.currentTick++;
+    }
+
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.imdmk.doublejump.stats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Records how long each phase of the plugin startup takes, including the phases deferred after enable.
+ * <p>
+ * Phases follow each other, starting a phase ends the previous one.
+ */
+public class StartupProfiler implements StatsProvider {
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private final Map<String, Long> deferredPhaseNanos = new LinkedHashMap<>();
+
+    private final long startNanos = System.nanoTime();
+    private long enableNanos;
+
+    private String currentPhase;
+    private long currentPhaseStartNanos;
+
+    /**
+     * Ends the current phase and starts a new one.
+     *
+     * @param name the name of the phase
+     */
+    public void phase(String name) {
+        this.endPhase();
+
+        this.currentPhase = name;
+        this.currentPhaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends the current phase and the synchronous part of the startup.
+     */
+    public void finish() {
+        this.endPhase();
+        this.enableNanos = System.nanoTime() - this.startNanos;
+    }
+
+    /**
+     * Wraps a phase which runs after the plugin has been enabled, so its duration is recorded when it runs.
+     *
+     * @param name the name of the phase
+     * @param phase the phase to run later
+     * @return the wrapped phase
+     */
+    public Runnable deferred(String name, Runnable phase) {
+        return () -> {
+            long phaseStartNanos = System.nanoTime();
+            phase.run();
+
+            synchronized (this.deferredPhaseNanos) {
+                this.deferredPhaseNanos.put(name, System.nanoTime() - phaseStartNanos);
+            }
+        };
+    }
+
+    public long getEnableMillis() {
+        return this.enableNanos / 1_000_000;
+    }
+
+    /**
+     * @return The phases with their durations, e.g. "configuration 12.3ms, adventure 1.2ms"
+     */
+    public String getSummary() {
+        StringJoiner summary = new StringJoiner(", ");
+        this.phaseNanos.forEach((name, nanos) -> summary.add(name + " " + formatMillis(nanos)));
+        return summary.toString();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Startup";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        this.phaseNanos.forEach((name, nanos) -> stats.put(name, formatMillis(nanos)));
+
+        synchronized (this.deferredPhaseNanos) {
+            this.deferredPhaseNanos.forEach((name, nanos) -> stats.put(name + " (deferred)", formatMillis(nanos)));
+        }
+
+        stats.put("total enable", formatMillis(this.enableNanos));
+        return stats;
+    }
+
+    private void endPhase() {
+        if (this.currentPhase == null) {
+            return;
+        }
+
+        this.phaseNanos.put(this.currentPhase, System.nanoTime() - this.currentPhaseStartNanos);
+        this.currentPhase = null;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.1fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.imdmk.doublejump.stats;
+
+import java.util.Map;
+
+/**
+ * A component exposing runtime statistics in the "/doublejump stats" command.
+ */
+public interface StatsProvider {
+
+    /**
+     * @return The name shown as the header of the statistics
+     */
+    String getStatsName();
+
+    /**
+     * @return Ordered statistics, the key is the name of the statistic
+     */
+    Map<String, Object> getStats();
+}
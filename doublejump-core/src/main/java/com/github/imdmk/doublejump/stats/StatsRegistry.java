@@ -0,0 +1,18 @@
+package com.github.imdmk.doublejump.stats;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class StatsRegistry {
+
+    private final List<StatsProvider> statsProviders = new CopyOnWriteArrayList<>();
+
+    public void register(StatsProvider statsProvider) {
+        this.statsProviders.add(statsProvider);
+    }
+
+    public List<StatsProvider> getStatsProviders() {
+        return Collections.unmodifiableList(this.statsProviders);
+    }
+}
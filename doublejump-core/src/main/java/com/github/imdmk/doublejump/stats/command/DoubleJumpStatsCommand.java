@@ -0,0 +1,50 @@
+package com.github.imdmk.doublejump.stats.command;
+
+import com.github.imdmk.doublejump.notification.NotificationSender;
+import com.github.imdmk.doublejump.notification.configuration.NotificationSettings;
+import com.github.imdmk.doublejump.stats.StatsProvider;
+import com.github.imdmk.doublejump.stats.StatsRegistry;
+import com.github.imdmk.doublejump.text.Formatter;
+import dev.rollczi.litecommands.annotations.command.Command;
+import dev.rollczi.litecommands.annotations.context.Context;
+import dev.rollczi.litecommands.annotations.execute.Execute;
+import dev.rollczi.litecommands.annotations.permission.Permission;
+import org.bukkit.command.CommandSender;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Command(name = "doublejump stats")
+@Permission("command.doublejump.stats")
+public class DoubleJumpStatsCommand {
+
+    private final Supplier<NotificationSettings> notificationSettings;
+    private final NotificationSender notificationSender;
+    private final StatsRegistry statsRegistry;
+
+    public DoubleJumpStatsCommand(Supplier<NotificationSettings> notificationSettings, NotificationSender notificationSender, StatsRegistry statsRegistry) {
+        this.notificationSettings = notificationSettings;
+        this.notificationSender = notificationSender;
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Execute
+    void execute(@Context CommandSender sender) {
+        NotificationSettings notificationSettings = this.notificationSettings.get();
+
+        for (StatsProvider statsProvider : this.statsRegistry.getStatsProviders()) {
+            Formatter headerFormatter = new Formatter()
+                    .placeholder("{NAME}", statsProvider.getStatsName());
+
+            this.notificationSender.send(sender, notificationSettings.statsHeader, headerFormatter);
+
+            for (Map.Entry<String, Object> entry : statsProvider.getStats().entrySet()) {
+                Formatter entryFormatter = new Formatter()
+                        .placeholder("{KEY}", entry.getKey())
+                        .placeholder("{VALUE}", entry.getValue());
+
+                this.notificationSender.send(sender, notificationSettings.statsEntry, entryFormatter);
+            }
+        }
+    }
+}
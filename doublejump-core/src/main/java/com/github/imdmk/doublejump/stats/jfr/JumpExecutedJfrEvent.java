@@ -0,0 +1,47 @@
+package com.github.imdmk.doublejump.stats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.entity.Player;
+
+@Name("doublejump.JumpExecuted")
+@Label("Jump Executed")
+@Category("DoubleJump")
+@Description("A double jump executed by a player, from resolving its values to applying them.")
+@Enabled(false)
+@StackTrace(false)
+public class JumpExecutedJfrEvent extends Event {
+
+    @Label("Player Id")
+    String playerId;
+
+    @Label("World")
+    String world;
+
+    @Label("Chain Stage")
+    int stage;
+
+    @Label("Performed")
+    @Description("Whether the jump was performed, false if it was cancelled or the jump chain was exhausted")
+    boolean performed;
+
+    /**
+     * Ends and commits the event if it is enabled, the fields are only filled in then.
+     */
+    public void complete(Player player, int stage, boolean performed) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.playerId = player.getUniqueId().toString();
+            this.world = player.getWorld().getName();
+            this.stage = stage;
+            this.performed = performed;
+            this.commit();
+        }
+    }
+}
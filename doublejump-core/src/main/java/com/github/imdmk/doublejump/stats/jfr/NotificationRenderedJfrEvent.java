@@ -0,0 +1,55 @@
+package com.github.imdmk.doublejump.stats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+@Name("doublejump.NotificationRendered")
+@Label("Notification Rendered")
+@Category("DoubleJump")
+@Description("A notification deserialized and sent to a player or the console.")
+@Enabled(false)
+@StackTrace(false)
+public class NotificationRenderedJfrEvent extends Event {
+
+    @Label("Player Id")
+    @Description("The id of the receiving player, empty for the console")
+    String playerId;
+
+    @Label("World")
+    String world;
+
+    @Label("Type")
+    String type;
+
+    @Label("Message Length")
+    int messageLength;
+
+    /**
+     * Ends and commits the event if it is enabled, the fields are only filled in then.
+     */
+    public void complete(CommandSender sender, String type, String message) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            if (sender instanceof Player player) {
+                this.playerId = player.getUniqueId().toString();
+                this.world = player.getWorld().getName();
+            }
+            else {
+                this.playerId = "";
+                this.world = "";
+            }
+
+            this.type = type;
+            this.messageLength = message.length();
+            this.commit();
+        }
+    }
+}
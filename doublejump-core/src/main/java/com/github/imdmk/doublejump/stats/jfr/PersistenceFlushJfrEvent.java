@@ -0,0 +1,38 @@
+package com.github.imdmk.doublejump.stats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("doublejump.PersistenceFlush")
+@Label("Persistence Flush")
+@Category("DoubleJump")
+@Description("A write of plugin data to disk.")
+@Enabled(false)
+@StackTrace(false)
+public class PersistenceFlushJfrEvent extends Event {
+
+    @Label("Target")
+    @Description("The written data, e.g. leaderboard")
+    String target;
+
+    @Label("Records")
+    int records;
+
+    /**
+     * Ends and commits the event if it is enabled, the fields are only filled in then.
+     */
+    public void complete(String target, int records) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.target = target;
+            this.records = records;
+            this.commit();
+        }
+    }
+}
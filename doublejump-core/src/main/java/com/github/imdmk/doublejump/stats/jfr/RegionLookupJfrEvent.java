@@ -0,0 +1,42 @@
+package com.github.imdmk.doublejump.stats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.entity.Player;
+
+@Name("doublejump.RegionLookup")
+@Label("Region Lookup")
+@Category("DoubleJump")
+@Description("A call of the region provider for a player.")
+@Enabled(false)
+@StackTrace(false)
+public class RegionLookupJfrEvent extends Event {
+
+    @Label("Player Id")
+    String playerId;
+
+    @Label("World")
+    String world;
+
+    @Label("Operation")
+    String operation;
+
+    /**
+     * Ends and commits the event if it is enabled, the fields are only filled in then.
+     */
+    public void complete(Player player, String operation) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.playerId = player.getUniqueId().toString();
+            this.world = player.getWorld().getName();
+            this.operation = operation;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.imdmk.doublejump.stats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.entity.Player;
+
+@Name("doublejump.RestrictionEvaluated")
+@Label("Restriction Evaluated")
+@Category("DoubleJump")
+@Description("An evaluation of the double jump restrictions of a player.")
+@Enabled(false)
+@StackTrace(false)
+public class RestrictionEvaluatedJfrEvent extends Event {
+
+    @Label("Player Id")
+    String playerId;
+
+    @Label("World")
+    String world;
+
+    @Label("Reason")
+    @Description("The restriction the player did not pass, NONE if all were passed")
+    String reason;
+
+    /**
+     * Ends and commits the event if it is enabled, the fields are only filled in then.
+     */
+    public void complete(Player player, String reason) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.playerId = player.getUniqueId().toString();
+            this.world = player.getWorld().getName();
+            this.reason = reason;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.imdmk.doublejump.stats.timing;
+
+/**
+ * Records the measured durations into a {@link LatencyHistogram}.
+ */
+public final class HistogramTimer implements HotPathTimer {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void stop(long startNanos) {
+        this.histogram.record(System.nanoTime() - startNanos);
+    }
+
+    public LatencyHistogram getHistogram() {
+        return this.histogram;
+    }
+}
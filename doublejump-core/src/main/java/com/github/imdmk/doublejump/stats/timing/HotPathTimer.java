@@ -0,0 +1,34 @@
+package com.github.imdmk.doublejump.stats.timing;
+
+/**
+ * Measures a hot path, e.g. an event handler.
+ * <p>
+ * Usage: {@code long startNanos = timer.start(); try { ... } finally { timer.stop(startNanos); }}
+ */
+public interface HotPathTimer {
+
+    /**
+     * A timer which measures nothing, used while timings are disabled so the calls are inlined away.
+     */
+    HotPathTimer NOOP = new HotPathTimer() {
+
+        @Override
+        public long start() {
+            return 0L;
+        }
+
+        @Override
+        public void stop(long startNanos) {
+        }
+    };
+
+    /**
+     * @return The start of the measurement
+     */
+    long start();
+
+    /**
+     * @param startNanos the start of the measurement returned by {@link #start()}
+     */
+    void stop(long startNanos);
+}
@@ -0,0 +1,106 @@
+package com.github.imdmk.doublejump.stats.timing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with logarithmic buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, as in HdrHistogram,
+ * so a recorded value is off by at most 12.5% while the whole range of longs fits in a few hundred counters.
+ * Recording is a single atomic increment, reading while recording may see a slightly inconsistent count.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * @param value the recorded value, negative values are recorded as 0
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0, value);
+
+        this.counts.incrementAndGet(getBucketIndex(recordedValue));
+
+        long currentMax = this.maxValue.get();
+        while (recordedValue > currentMax && !this.maxValue.compareAndSet(currentMax, recordedValue)) {
+            currentMax = this.maxValue.get();
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            count += this.counts.get(index);
+        }
+
+        return count;
+    }
+
+    public long getMax() {
+        return this.maxValue.get();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return The highest value of the bucket holding the percentile, never above the recorded maximum, 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            snapshot[index] = this.counts.get(index);
+            count += snapshot[index];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long seen = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += snapshot[index];
+
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(index), this.getMax());
+            }
+        }
+
+        return this.getMax();
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = SUB_BUCKETS + index % SUB_BUCKETS;
+
+        // The last bucket ends at the largest long, its upper bound would overflow
+        if (shift + SUB_BUCKET_BITS + 1 >= Long.SIZE - 1 && mantissa == 2 * SUB_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.imdmk.doublejump.stats.timing;
+
+import com.github.imdmk.doublejump.region.RegionProvider;
+import com.github.imdmk.doublejump.stats.jfr.RegionLookupJfrEvent;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+
+/**
+ * Measures the calls of a {@link RegionProvider} with a timer and a {@link RegionLookupJfrEvent}.
+ */
+public class TimedRegionProvider implements RegionProvider {
+
+    private final RegionProvider regionProvider;
+    private final HotPathTimer timer;
+
+    public TimedRegionProvider(RegionProvider regionProvider, HotPathTimer timer) {
+        this.regionProvider = regionProvider;
+        this.timer = timer;
+    }
+
+    @Override
+    public boolean isInAllowedRegion(Player player) {
+        RegionLookupJfrEvent event = new RegionLookupJfrEvent();
+        event.begin();
+
+        long startNanos = this.timer.start();
+
+        try {
+            return this.regionProvider.isInAllowedRegion(player);
+        }
+        finally {
+            this.timer.stop(startNanos);
+            event.complete(player, "isInAllowedRegion");
+        }
+    }
+
+    @Override
+    public Set<String> getRegions(Player player) {
+        RegionLookupJfrEvent event = new RegionLookupJfrEvent();
+        event.begin();
+
+        long startNanos = this.timer.start();
+
+        try {
+            return this.regionProvider.getRegions(player);
+        }
+        finally {
+            this.timer.stop(startNanos);
+            event.complete(player, "getRegions");
+        }
+    }
+}
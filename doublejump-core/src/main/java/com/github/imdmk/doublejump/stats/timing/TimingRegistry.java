@@ -0,0 +1,62 @@
+package com.github.imdmk.doublejump.stats.timing;
+
+import com.github.imdmk.doublejump.stats.StatsProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates the timers of the hot paths and reports their count, median, 99th percentile and maximum.
+ * <p>
+ * While timings are disabled every timer is {@link HotPathTimer#NOOP}, so no time is read at all.
+ */
+public class TimingRegistry implements StatsProvider {
+
+    private final boolean enabled;
+    private final Map<String, HistogramTimer> timers = new LinkedHashMap<>();
+
+    public TimingRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param name the name of the measured path, timers with the same name share their measurements
+     * @return The timer of the path
+     */
+    public synchronized HotPathTimer timer(String name) {
+        if (!this.enabled) {
+            return HotPathTimer.NOOP;
+        }
+
+        return this.timers.computeIfAbsent(name, key -> new HistogramTimer());
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public String getStatsName() {
+        return "Timings";
+    }
+
+    @Override
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        this.timers.forEach((name, timer) -> {
+            LatencyHistogram histogram = timer.getHistogram();
+
+            stats.put(name, "count " + histogram.getCount()
+                    + ", p50 " + formatMicros(histogram.getPercentile(50))
+                    + ", p99 " + formatMicros(histogram.getPercentile(99))
+                    + ", max " + formatMicros(histogram.getMax()));
+        });
+
+        return stats;
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+}
@@ -14,6 +14,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,12 +26,12 @@ public class UpdateListener implements Listener {
     private static final Notification UPDATE_EXCEPTION = new Notification(NotificationType.CHAT, PREFIX + "<red>An error occurred while checking for update: {MESSAGE}");
 
     private final Logger logger;
-    private final PluginConfiguration pluginConfiguration;
+    private final Supplier<PluginConfiguration> pluginConfiguration;
     private final NotificationSender notificationSender;
     private final UpdateService updateService;
     private final TaskScheduler taskScheduler;
 
-    public UpdateListener(Logger logger, PluginConfiguration pluginConfiguration, NotificationSender notificationSender, UpdateService updateService, TaskScheduler taskScheduler) {
+    public UpdateListener(Logger logger, Supplier<PluginConfiguration> pluginConfiguration, NotificationSender notificationSender, UpdateService updateService, TaskScheduler taskScheduler) {
         this.logger = logger;
         this.pluginConfiguration = pluginConfiguration;
         this.notificationSender = notificationSender;
@@ -40,7 +41,7 @@ public class UpdateListener implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        if (!this.pluginConfiguration.checkForUpdate) {
+        if (!this.pluginConfiguration.get().checkForUpdate) {
             return;
         }
 
@@ -0,0 +1,80 @@
+package com.github.imdmk.doublejump;
+
+import com.github.imdmk.doublejump.configuration.cache.ConfigurationCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigurationCacheTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("enabled", true);
+        nested.put("delay", "2s");
+        nested.put("multiple", 0.3);
+        nested.put("limit", 5);
+        nested.put("seed", 42L);
+        nested.put("scale", 0.5F);
+        nested.put("missing", null);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("permission", "doublejump.use");
+        values.put("worlds", List.of("world", "world_nether"));
+        values.put("jumpSettings", nested);
+
+        ConfigurationCache cache = new ConfigurationCache(new File(this.directory, "configuration.cache"), "1.0.0");
+        byte[] fileHash = this.hash("jump-multiple: 0.3");
+
+        cache.write(fileHash, values);
+
+        Map<String, Object> cachedValues = cache.read(fileHash).orElseThrow();
+        assertEquals(values, cachedValues);
+        assertEquals(List.copyOf(values.keySet()), List.copyOf(cachedValues.keySet()));
+    }
+
+    @Test
+    void testInvalidation() throws IOException {
+        File cacheFile = new File(this.directory, "configuration.cache");
+        byte[] fileHash = this.hash("jump-multiple: 0.3");
+
+        new ConfigurationCache(cacheFile, "1.0.0").write(fileHash, Map.of("key", "value"));
+
+        assertTrue(new ConfigurationCache(cacheFile, "1.0.0").read(this.hash("jump-multiple: 0.4")).isEmpty());
+        assertTrue(new ConfigurationCache(cacheFile, "1.0.1").read(fileHash).isEmpty());
+
+        byte[] cacheContent = Files.readAllBytes(cacheFile.toPath());
+        Files.write(cacheFile.toPath(), Arrays.copyOf(cacheContent, cacheContent.length - 3));
+
+        assertTrue(new ConfigurationCache(cacheFile, "1.0.0").read(fileHash).isEmpty());
+    }
+
+    @Test
+    void testUnsupportedValue() {
+        ConfigurationCache cache = new ConfigurationCache(new File(this.directory, "configuration.cache"), "1.0.0");
+
+        assertThrows(IllegalArgumentException.class, () -> cache.write(new byte[32], Map.of("key", new Object())));
+        assertTrue(cache.read(new byte[32]).isEmpty());
+    }
+
+    private byte[] hash(String content) throws IOException {
+        File file = new File(this.directory, "configuration.yml");
+        Files.writeString(file.toPath(), content);
+
+        return ConfigurationCache.hash(file);
+    }
+}
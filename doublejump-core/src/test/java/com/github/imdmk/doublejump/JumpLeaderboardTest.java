@@ -0,0 +1,77 @@
+package com.github.imdmk.doublejump;
+
+import com.github.imdmk.doublejump.jump.leaderboard.JumpLeaderboard;
+import com.github.imdmk.doublejump.jump.leaderboard.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JumpLeaderboardTest {
+
+    @Test
+    void testOrder() {
+        JumpLeaderboard leaderboard = new JumpLeaderboard(2, Integer.MAX_VALUE);
+
+        leaderboard.set(UUID.randomUUID(), "first", 5);
+        leaderboard.set(UUID.randomUUID(), "second", 10);
+        leaderboard.set(UUID.randomUUID(), "third", 1);
+
+        assertEquals("second", leaderboard.get(1).map(LeaderboardEntry::name).orElseThrow());
+        assertEquals("first", leaderboard.get(2).map(LeaderboardEntry::name).orElseThrow());
+        assertTrue(leaderboard.get(3).isEmpty());
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        JumpLeaderboard leaderboard = new JumpLeaderboard(2, Integer.MAX_VALUE);
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        leaderboard.set(first, "first", 5);
+        leaderboard.set(second, "second", 10);
+        leaderboard.set(third, "third", 1);
+
+        leaderboard.set(third, "third", 20);
+        assertEquals("third", leaderboard.get(1).map(LeaderboardEntry::name).orElseThrow());
+        assertEquals("second", leaderboard.get(2).map(LeaderboardEntry::name).orElseThrow());
+
+        leaderboard.remove(second);
+        assertEquals("first", leaderboard.get(2).map(LeaderboardEntry::name).orElseThrow());
+    }
+
+    @Test
+    void testSetIfHigherWithCapacity() {
+        JumpLeaderboard leaderboard = new JumpLeaderboard(2, 2);
+
+        UUID first = UUID.randomUUID();
+
+        assertTrue(leaderboard.setIfHigher(first, "first", 5));
+        assertFalse(leaderboard.setIfHigher(first, "first", 3));
+
+        leaderboard.setIfHigher(UUID.randomUUID(), "second", 7);
+        leaderboard.setIfHigher(UUID.randomUUID(), "third", 6);
+
+        assertEquals(2, leaderboard.getTop().size());
+        assertEquals(6, leaderboard.get(2).map(LeaderboardEntry::value).orElseThrow());
+        assertTrue(leaderboard.getEntry(first).isEmpty());
+    }
+
+    @Test
+    void testSetIfHigherEvictedEntry() {
+        JumpLeaderboard leaderboard = new JumpLeaderboard(2, 2);
+
+        leaderboard.set(UUID.randomUUID(), "first", 10);
+        leaderboard.set(UUID.randomUUID(), "second", 8);
+
+        UUID third = UUID.randomUUID();
+
+        assertFalse(leaderboard.setIfHigher(third, "third", 3));
+        assertTrue(leaderboard.getEntry(third).isEmpty());
+    }
+}
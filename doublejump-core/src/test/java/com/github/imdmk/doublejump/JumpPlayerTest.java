@@ -0,0 +1,30 @@
+package com.github.imdmk.doublejump;
+
+import com.github.imdmk.doublejump.jump.JumpPlayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JumpPlayerTest {
+
+    @Test
+    void testJumpCostAboveRemainingJumps() {
+        JumpPlayer jumpPlayer = new JumpPlayer(1, 5);
+
+        assertEquals(0, jumpPlayer.removeJumps(2));
+        assertEquals(0, jumpPlayer.getJumps());
+        assertFalse(jumpPlayer.hasJumps());
+    }
+
+    @Test
+    void testUnlimitedJumps() {
+        JumpPlayer jumpPlayer = new JumpPlayer();
+
+        jumpPlayer.removeJumps(2);
+
+        assertEquals(-1, jumpPlayer.getJumps());
+        assertTrue(jumpPlayer.hasJumps());
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.imdmk.doublejump;
+
+import com.github.imdmk.doublejump.jump.stream.JumpRecord;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordOverflowPolicy;
+import com.github.imdmk.doublejump.jump.stream.JumpRecordPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JumpRecordPublisherTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    @Test
+    void testDeliveryFollowsDemand() {
+        JumpRecordPublisher publisher = new JumpRecordPublisher(Runnable::run, () -> 8, () -> JumpRecordOverflowPolicy.DROP_NEWEST);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+        assertTrue(publisher.hasSubscribers());
+
+        for (int timestamp = 0; timestamp < 5; timestamp++) {
+            publisher.publish(new JumpRecord.Enable(PLAYER, timestamp));
+        }
+
+        assertTrue(subscriber.timestamps.isEmpty());
+
+        subscriber.subscription.request(3);
+        assertEquals(List.of(0L, 1L, 2L), subscriber.timestamps);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        publisher.publish(new JumpRecord.Disable(PLAYER, 5));
+        publisher.close();
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), subscriber.timestamps);
+        assertTrue(subscriber.completed);
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void testOverflowPolicies() {
+        JumpRecordPublisher dropOldestPublisher = new JumpRecordPublisher(Runnable::run, () -> 4, () -> JumpRecordOverflowPolicy.DROP_OLDEST);
+        JumpRecordPublisher dropNewestPublisher = new JumpRecordPublisher(Runnable::run, () -> 4, () -> JumpRecordOverflowPolicy.DROP_NEWEST);
+
+        RecordingSubscriber dropOldestSubscriber = new RecordingSubscriber();
+        RecordingSubscriber dropNewestSubscriber = new RecordingSubscriber();
+
+        dropOldestPublisher.subscribe(dropOldestSubscriber);
+        dropNewestPublisher.subscribe(dropNewestSubscriber);
+
+        for (int timestamp = 0; timestamp < 6; timestamp++) {
+            dropOldestPublisher.publish(new JumpRecord.Enable(PLAYER, timestamp));
+            dropNewestPublisher.publish(new JumpRecord.Enable(PLAYER, timestamp));
+        }
+
+        dropOldestSubscriber.subscription.request(Long.MAX_VALUE);
+        dropNewestSubscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(2L, 3L, 4L, 5L), dropOldestSubscriber.timestamps);
+        assertEquals(List.of(0L, 1L, 2L, 3L), dropNewestSubscriber.timestamps);
+
+        assertEquals(2, dropOldestPublisher.getDroppedRecords());
+        assertEquals(2, dropNewestPublisher.getDroppedRecords());
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<JumpRecord> {
+
+        private final List<Long> timestamps = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(JumpRecord record) {
+            this.timestamps.add(record.timestamp());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}